@@ -0,0 +1,78 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.web.validation.constraint.EmailMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 이메일 형식 검사 비용 : 매번 Pattern.matches / 미리 컴파일한 Pattern / EmailMatcher
+ * - VALID : 보통 입력
+ * - LONG_LOCAL : 구분자가 섞인 긴 로컬 부분 뒤에 @ 가 없다 ( 로컬 부분 전체를 되돌아간다 )
+ * - LONG_DOMAIN : 긴 도메인 끝이 영문이 아니다 ( 도메인의 모든 위치에서 "아무 문자 + 영문 2~3자" 를 다시 시도 )
+ * - length 가 크면 정규식은 반복마다 재귀하므로 StackOverflowError 가 날 수 있다 ( 기본 스레드 스택 기준 수천 자 )
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailMatchBenchmark {
+
+    public enum Input {
+        VALID, LONG_LOCAL, LONG_DOMAIN
+    }
+
+    @Param
+    Input input;
+
+    @Param({"64", "1024"})
+    int length;
+
+    Pattern pattern;
+    String email;
+
+    @Setup
+    public void setUp() {
+        pattern = Pattern.compile(EmailMatcher.REGEX);
+        int repeat = Math.max(1, length / 2);
+        switch (input) {
+            case VALID:
+                email = "itemA@example.com";
+                break;
+            case LONG_LOCAL:
+                email = "a-".repeat(repeat) + "a";
+                break;
+            default:
+                email = "a@" + "b.".repeat(repeat) + "1";
+        }
+    }
+
+    // ItemValidator 가 쓰던 방식 : 호출마다 컴파일
+    @Benchmark
+    public boolean regex() {
+        return Pattern.matches(EmailMatcher.REGEX, email);
+    }
+
+    @Benchmark
+    public boolean precompiledRegex() {
+        return pattern.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean emailMatcher() {
+        return EmailMatcher.matches(email);
+    }
+}
@@ -0,0 +1,92 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.web.binding.ItemFormBinding;
+import hello.itemservice.web.binding.ItemFormDataBinder;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.servlet.mvc.method.annotation.ExtendedServletRequestDataBinder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ModelAttribute ItemSaveForm 바인딩 비용 : 기본 바인더 vs 전용 바인더 ( ItemFormDataBinder )
+ * - generic : 스프링 MVC 기본 바인더 ( BeanWrapper + 변환 서비스, 이전의 setAllowedFields 포함 )
+ * - specialized : ItemFormBinding 의 setter 직접 호출
+ * - 요청마다 하는 일 ( 바인더 생성 + 값 넣기 + 타입 오류 처리 ) 만 잰다. 요청 파라미터 수집 / 검증은 두 방식이 같아서 뺀다
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemBinderBenchmark {
+
+    public enum Input {
+        VALID("itemA", "10000", "10"),
+        TYPE_MISMATCH("itemA", "qqq", "10");
+
+        final String itemName;
+        final String price;
+        final String quantity;
+
+        Input(String itemName, String price, String quantity) {
+            this.itemName = itemName;
+            this.price = price;
+            this.quantity = quantity;
+        }
+    }
+
+    private static final String[] ITEM_FIELDS = {"id", "itemName", "price", "quantity", "email"};
+
+    @Param
+    Input input;
+
+    DefaultFormattingConversionService conversionService;
+    Map<String, Object> params;
+    ItemFormBinding<?> binding;
+
+    @Setup
+    public void setUp() {
+        conversionService = new DefaultFormattingConversionService();
+        binding = ItemFormBinding.forType(ItemSaveForm.class);
+
+        params = new LinkedHashMap<>();
+        params.put("itemName", input.itemName);
+        params.put("price", input.price);
+        params.put("quantity", input.quantity);
+        params.put("email", "itemA@example.com");
+    }
+
+    @Benchmark
+    public BindingResult generic() {
+        ExtendedServletRequestDataBinder binder = new ExtendedServletRequestDataBinder(new ItemSaveForm(), "item");
+        binder.setConversionService(conversionService);
+        binder.setAllowedFields(ITEM_FIELDS);
+        binder.bind(new MutablePropertyValues(params));
+        return binder.getBindingResult();
+    }
+
+    @Benchmark
+    public BindingResult specialized() {
+        ItemFormDataBinder binder = new ItemFormDataBinder(new ItemSaveForm(), "item", binding);
+        binder.setConversionService(conversionService);
+        binder.bind(new MutablePropertyValues(params));
+        return binder.getBindingResult();
+    }
+}
@@ -0,0 +1,87 @@
+package hello.itemservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.web.validation.ItemPayloadFormat;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 API 요청/응답 형식별 비용 : JSON / CBOR / Smile
+ * - read : 요청 바디 ( ItemSaveForm 배열 ) 를 ItemSaveFormReader 로 읽기 ( 서버 쪽 )
+ * - write : 일괄 등록 응답 ( { index, item } 배열 ) 쓰기 ( 서버 쪽, 호출하는 쪽의 요청 쓰기와 비슷한 비용 )
+ * - 상품 하나당 시간 = 점수 / batchSize
+ * - 전송 크기 ( 요청 / 응답 바이트, 상품 하나당 바이트 ) 는 Setup 에서 출력한다
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemPayloadFormatBenchmark {
+
+    @Param
+    ItemPayloadFormat format;
+
+    @Param({"1", "100"})
+    int batchSize;
+
+    ItemSaveFormReader reader;
+    ObjectMapper objectMapper;
+    byte[] requestBody;
+    List<Map<String, Object>> response;
+
+    @Setup
+    public void setUp() throws IOException {
+        reader = new ItemSaveFormReader(format.getJsonFactory());
+        objectMapper = new ObjectMapper(format.getJsonFactory());
+
+        List<ItemSaveForm> forms = new ArrayList<>(batchSize);
+        response = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            ItemSaveForm form = new ItemSaveForm("item" + i, 10000 + i, 10);
+            form.setEmail("seller" + i + "@example.com");
+            forms.add(form);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("index", i);
+            result.put("item", form);
+            response.add(result);
+        }
+        requestBody = objectMapper.writeValueAsBytes(forms);
+
+        int responseBytes = objectMapper.writeValueAsBytes(response).length;
+        System.out.printf("%n[%s] batchSize=%d request=%d bytes (%.1f/item), response=%d bytes (%.1f/item)%n",
+                format, batchSize, requestBody.length, requestBody.length / (double) batchSize,
+                responseBytes, responseBytes / (double) batchSize);
+    }
+
+    @Benchmark
+    public List<ItemSaveFormReader.Result> read() throws IOException {
+        return reader.readAll(new ByteArrayInputStream(requestBody), Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,97 @@
+package hello.itemservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.web.validation.ItemSaveFormHttpMessageConverter;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @RequestBody ItemSaveForm 읽기 비용 - 범용 ObjectMapper vs 전용 스트리밍 리더 ( ItemSaveFormReader )
+ * - converter : 실제 요청 경로 ( ItemSaveFormHttpMessageConverter.read ) 까지 포함한 비용
+ * - body=typeMismatch : 타입이 틀린 값. ObjectMapper 는 예외로 실패하고 ( 예외 생성 비용 포함 ), 리더는 오류를 모아서 돌려준다
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemSaveFormReadBenchmark {
+
+    @Param({"valid", "typeMismatch"})
+    String body;
+
+    byte[] bytes;
+    ObjectMapper objectMapper;
+    ItemSaveFormReader reader;
+    ItemSaveFormHttpMessageConverter converter;
+
+    @Setup
+    public void setUp() {
+        String price = "valid".equals(body) ? "10000" : "\"qqq\"";
+        bytes = ("{\"itemName\":\"itemA\",\"price\":" + price + ",\"quantity\":10,\"email\":\"itemA@example.com\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        objectMapper = new ObjectMapper();
+        reader = new ItemSaveFormReader(new JsonFactory());
+        converter = new ItemSaveFormHttpMessageConverter();
+    }
+
+    @Benchmark
+    public Object objectMapper() throws IOException {
+        try {
+            return objectMapper.readValue(new ByteArrayInputStream(bytes), ItemSaveForm.class);
+        } catch (JsonMappingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ItemSaveForm streamingReader() throws IOException {
+        return reader.read(new ByteArrayInputStream(bytes)).getForm();
+    }
+
+    @Benchmark
+    public Object converter() throws IOException {
+        return converter.read(ItemSaveForm.class, new BodyInputMessage(bytes));
+    }
+
+    private static final class BodyInputMessage implements HttpInputMessage {
+
+        private final byte[] body;
+
+        private BodyInputMessage(byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return HttpHeaders.EMPTY;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package hello.itemservice.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 코드 생성 ( MessageCodesResolver ) 과 MessageSource 메시지 조회 비용
+ * - MessageSource 설정은 application.properties 의 spring.messages.basename 과 같다
+ * - level1 : 첫 번째 코드 ( required.item.itemName ) 에서 메시지를 찾는 경우
+ * - level4 : 앞의 코드를 모두 놓치고 마지막 코드 ( typeMismatch ) 에서 찾는 경우
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageResolutionBenchmark {
+
+    MessageCodesResolver messageCodesResolver;
+    ResourceBundleMessageSource messageSource;
+
+    FieldError level1Error;
+    FieldError level4Error;
+
+    @Setup
+    public void setUp() {
+        messageCodesResolver = new DefaultMessageCodesResolver();
+
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("messages", "errors");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setFallbackToSystemLocale(false);
+
+        level1Error = new FieldError("item", "itemName", null, false,
+                messageCodesResolver.resolveMessageCodes("required", "item", "itemName", String.class), null, null);
+        level4Error = new FieldError("item", "quantity", "qqq", true,
+                messageCodesResolver.resolveMessageCodes("typeMismatch", "item", "quantity", Long.class), null, null);
+    }
+
+    @Benchmark
+    public String[] resolveObjectCodes() {
+        return messageCodesResolver.resolveMessageCodes("totalPrice", "item");
+    }
+
+    @Benchmark
+    public String[] resolveFieldCodes() {
+        return messageCodesResolver.resolveMessageCodes("required", "item", "itemName", String.class);
+    }
+
+    @Benchmark
+    public String messageLevel1() {
+        return messageSource.getMessage(level1Error, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String messageLevel4() {
+        return messageSource.getMessage(level4Error, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String messageWithArguments() {
+        return messageSource.getMessage("range.item.price", new Object[]{1000, 1000000}, Locale.KOREA);
+    }
+}
@@ -0,0 +1,185 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.feed.ItemChangeFeed;
+import hello.itemservice.feed.ItemFeedProperties;
+import hello.itemservice.web.validation.ItemValidator;
+import hello.itemservice.web.validation.ValidationItemControllerV1;
+import hello.itemservice.web.validation.ValidationItemControllerV2;
+import hello.itemservice.web.validation.ValidationItemControllerV3;
+import hello.itemservice.web.validation.ValidationItemControllerV4;
+import hello.itemservice.web.validation.async.AsyncValidationProperties;
+import hello.itemservice.web.validation.async.AsyncValidationStage;
+import hello.itemservice.web.validation.event.ValidationEventLogger;
+import hello.itemservice.web.validation.event.ValidationEventProperties;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로젝트의 검증 방식별 비용 비교
+ * - 바인딩이 끝난 뒤 스프링 MVC 가 하는 일 ( 검증 + 컨트롤러 호출 ) 을 그대로 재현한다
+ * - 입력값 : 정상 / 오류 1개 / 모든 필드 오류
+ * - 정상 입력은 저장까지 하므로 반복(iteration) 마다 저장소를 비운다
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationStrategyBenchmark {
+
+    public enum Input {
+        VALID("itemA", 10000, 10, "itemA@example.com"),
+        SINGLE_ERROR("itemA", 10000, 100000, "itemA@example.com"),
+        ALL_ERRORS(" ", 10, null, "not-an-email");
+
+        final String itemName;
+        final Integer price;
+        final Integer quantity;
+        final String email;
+
+        Input(String itemName, Integer price, Integer quantity, String email) {
+            this.itemName = itemName;
+            this.price = price;
+            this.quantity = quantity;
+            this.email = email;
+        }
+    }
+
+    @Param
+    Input input;
+
+    ItemRepository itemRepository;
+    ValidationItemControllerV1 controllerV1;
+    ValidationItemControllerV2 controllerV2;
+    ValidationItemControllerV3 controllerV3;
+    ValidationItemControllerV4 controllerV4;
+    ItemValidator itemValidator;
+    LocalValidatorFactoryBean beanValidator;
+    ValidationEventLogger eventLogger;
+    AsyncValidationStage asyncValidationStage;
+
+    @Setup
+    public void setUp() {
+        itemRepository = new ItemRepository();
+        itemValidator = new ItemValidator();
+        eventLogger = new ValidationEventLogger(new ValidationEventProperties());
+        // 규칙 없이 : 느린 규칙의 비용은 측정 대상이 아니다
+        asyncValidationStage = new AsyncValidationStage(List.of(), new AsyncValidationProperties());
+        ItemChangeFeed itemChangeFeed = new ItemChangeFeed(new ItemFeedProperties());
+        controllerV1 = new ValidationItemControllerV1(itemRepository, itemChangeFeed);
+        controllerV2 = new ValidationItemControllerV2(itemRepository, itemChangeFeed, itemValidator, eventLogger);
+        controllerV3 = new ValidationItemControllerV3(itemRepository, itemChangeFeed, eventLogger);
+        controllerV4 = new ValidationItemControllerV4(itemRepository, itemChangeFeed, eventLogger, asyncValidationStage);
+
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearStore() {
+        itemRepository.clearStore();
+    }
+
+    @TearDown
+    public void tearDown() {
+        beanValidator.close();
+        eventLogger.close();
+        asyncValidationStage.close();
+    }
+
+    // V1 : Map 에 오류 메시지를 직접 담는 방식
+    @Benchmark
+    public String v1ErrorMap() {
+        return controllerV1.addItem(newItem(), new RedirectAttributesModelMap(), new ExtendedModelMap());
+    }
+
+    // V2.addItemV1 : FieldError 직접 생성 ( 거절값, 메시지 코드 없음 )
+    @Benchmark
+    public String v2FieldErrorMinimal() {
+        Item item = newItem();
+        return controllerV2.addItemV1(item, bindingResult(item), new RedirectAttributesModelMap());
+    }
+
+    // V2.addItemV2 : FieldError 직접 생성 ( 거절값 포함 )
+    @Benchmark
+    public String v2FieldErrorRejectedValue() {
+        Item item = newItem();
+        return controllerV2.addItemV2(item, bindingResult(item), new RedirectAttributesModelMap());
+    }
+
+    // V2.addItemV3 : FieldError 직접 생성 ( 메시지 코드 직접 지정 )
+    @Benchmark
+    public String v2FieldErrorMessageCodes() {
+        Item item = newItem();
+        return controllerV2.addItemV3(item, bindingResult(item), new RedirectAttributesModelMap());
+    }
+
+    // V2.addItemV4 : rejectValue / reject ( MessageCodesResolver 가 코드 생성 )
+    @Benchmark
+    public String v2RejectValue() {
+        Item item = newItem();
+        return controllerV2.addItemV4(item, bindingResult(item), new RedirectAttributesModelMap());
+    }
+
+    // V2.addItemV6 : ItemValidator ( @InitBinder 로 등록한 Validator )
+    @Benchmark
+    public String v2ItemValidator() {
+        Item item = newItem();
+        BindingResult bindingResult = bindingResult(item);
+        itemValidator.validate(item, bindingResult);
+        return controllerV2.addItemV6(item, bindingResult, new RedirectAttributesModelMap());
+    }
+
+    // V3 : Item 에 대한 Bean Validation ( groups = SaveCheck )
+    @Benchmark
+    public String v3BeanValidationGroups() {
+        Item item = newItem();
+        BindingResult bindingResult = bindingResult(item);
+        beanValidator.validate(item, bindingResult, SaveCheck.class);
+        return controllerV3.addItem(item, bindingResult, new RedirectAttributesModelMap());
+    }
+
+    // V4 : ItemSaveForm 에 대한 Bean Validation
+    @Benchmark
+    public String v4BeanValidationForm() {
+        ItemSaveForm form = new ItemSaveForm(input.itemName, input.price, input.quantity);
+        form.setEmail(input.email);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        beanValidator.validate(form, bindingResult);
+        return controllerV4.addItem(form, bindingResult, new RedirectAttributesModelMap(), new ExtendedModelMap());
+    }
+
+    private Item newItem() {
+        Item item = new Item(input.itemName, input.price, input.quantity);
+        item.setEmail(input.email);
+        return item;
+    }
+
+    private BindingResult bindingResult(Item item) {
+        return new BeanPropertyBindingResult(item, "item");
+    }
+}
@@ -0,0 +1,308 @@
+package hello.itemservice.load;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * v1~v4 컨트롤러와 JSON API 의 종단간 부하 테스트
+ * - 애플리케이션을 임의 포트로 띄우고, 여러 클라이언트 스레드가 조회 / 정상 입력 / 오류 입력 요청을 섞어서 보낸다
+ * - 열린 루프 ( open-loop ) : 클라이언트마다 정해진 간격으로 요청을 보내고, 지연시간은 "보냈어야 할 시각" 부터 잰다
+ *   -> 서버가 느려져 요청이 밀리면 밀린 시간까지 지연시간에 들어간다 ( coordinated omission 보정, p99/p999 를 과소평가하지 않는다 )
+ * - 상세 / 수정 대상은 기동할 때 들어간 상품 id 중에서 고른다
+ * - 등록/수정 성공시 redirect 를 따라가서 상세 화면 렌더링까지 한 요청으로 측정한다
+ * - 작업별 지연시간을 HDR 히스토그램으로 기록하고 build/reports/load 에 히스토그램과 비교 리포트를 남긴다
+ *
+ * 설정 ( 시스템 프로퍼티 )
+ * - load.clients : 동시 클라이언트 수 ( 기본 32 )
+ * - load.rate : 전체 목표 요청 수 / 초 ( 기본 1000, 클라이언트마다 rate / clients 로 나눈다 )
+ * - load.warmup-seconds, load.duration-seconds : 워밍업 / 측정 시간 ( 기본 3초 / 10초 )
+ * - load.read-ratio : 조회 요청 비율 ( 기본 0.5 )
+ * - load.invalid-ratio : 등록/수정 중 검증 오류 입력 비율 ( 기본 0.3 )
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "item.admission.enabled=false",
+        "item.idempotency.enabled=false",
+        "logging.level.hello.itemservice=warn"
+})
+class ItemServiceLoadTest {
+
+    static final int CLIENTS = Integer.getInteger("load.clients", 32);
+    static final double RATE = Double.parseDouble(System.getProperty("load.rate", "1000"));
+    static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 3));
+    static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 10));
+    static final double READ_RATIO = Double.parseDouble(System.getProperty("load.read-ratio", "0.5"));
+    static final double INVALID_RATIO = Double.parseDouble(System.getProperty("load.invalid-ratio", "0.3"));
+    static final Path REPORT_DIR = Paths.get(System.getProperty("load.report-dir", "build/reports/load"));
+
+    // 측정 가능한 최대 지연시간 1분, 유효숫자 3자리
+    static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    static final List<TargetResult> results = new CopyOnWriteArrayList<>();
+
+    enum Target {
+        V1("/validation/v1/items"),
+        V2("/validation/v2/items"),
+        V3("/validation/v3/items"),
+        V4("/validation/v4/items"),
+        API("/validation/api/items");
+
+        final String basePath;
+
+        Target(String basePath) {
+            this.basePath = basePath;
+        }
+
+        boolean isApi() {
+            return this == API;
+        }
+    }
+
+    enum Operation {
+        LIST, DETAIL, ADD_VALID, ADD_INVALID, EDIT_VALID, EDIT_INVALID
+    }
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    // 상세 / 수정 대상 ( 시드 데이터의 id )
+    long[] itemIds;
+
+    final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @ParameterizedTest
+    @EnumSource(Target.class)
+    void load(Target target) throws Exception {
+        itemIds = itemRepository.findAll().stream().mapToLong(Item::getId).toArray();
+        assertThat(itemIds).as("시드 데이터가 없습니다").isNotEmpty();
+
+        run(target, WARMUP);
+        TargetResult result = run(target, DURATION);
+
+        result.writeHistograms(REPORT_DIR);
+        results.add(result);
+        System.out.println(result.summary());
+
+        assertThat(result.unexpected).as("%s 예상하지 못한 응답 또는 오류", target).isZero();
+    }
+
+    @AfterAll
+    static void writeReport() throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(REPORT_DIR.resolve("summary.txt")))) {
+            out.printf("clients=%d, rate=%.0f req/s, duration=%ds, readRatio=%.2f, invalidRatio=%.2f%n%n",
+                    CLIENTS, RATE, DURATION.getSeconds(), READ_RATIO, INVALID_RATIO);
+            for (TargetResult result : results) {
+                out.println(result.summary());
+            }
+        }
+    }
+
+    private TargetResult run(Target target, Duration duration) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Future<ClientResult>> futures = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                long seed = i;
+                futures.add(executor.submit(() -> runClient(target, deadline, new SplittableRandom(seed))));
+            }
+
+            TargetResult result = new TargetResult(target, duration);
+            for (Future<ClientResult> future : futures) {
+                result.add(future.get());
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ClientResult runClient(Target target, long deadline, SplittableRandom random) {
+        ClientResult result = new ClientResult();
+        long intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) * CLIENTS / RATE));
+        // 클라이언트마다 시작 시각을 조금씩 어긋나게 해서 요청이 한꺼번에 몰리지 않게 한다
+        long intendedStart = System.nanoTime() + random.nextLong(intervalNanos);
+        while (intendedStart < deadline) {
+            Operation operation = nextOperation(target, random);
+            HttpRequest request = request(target, operation, random);
+
+            try {
+                long sleepNanos = intendedStart - System.nanoTime();
+                if (sleepNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                }
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                result.record(operation, System.nanoTime() - intendedStart, response.statusCode() == 200);
+            } catch (IOException e) {
+                result.record(operation, System.nanoTime() - intendedStart, false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            // 응답이 늦어도 다음 요청의 예정 시각은 미루지 않는다 ( 밀린 만큼 다음 요청의 지연시간에 들어간다 )
+            intendedStart += intervalNanos;
+        }
+        return result;
+    }
+
+    private Operation nextOperation(Target target, SplittableRandom random) {
+        boolean invalid = random.nextDouble() < INVALID_RATIO;
+        if (target.isApi()) {
+            return invalid ? Operation.ADD_INVALID : Operation.ADD_VALID;
+        }
+        if (random.nextDouble() < READ_RATIO) {
+            return random.nextBoolean() ? Operation.LIST : Operation.DETAIL;
+        }
+        if (random.nextBoolean()) {
+            return invalid ? Operation.ADD_INVALID : Operation.ADD_VALID;
+        }
+        return invalid ? Operation.EDIT_INVALID : Operation.EDIT_VALID;
+    }
+
+    private HttpRequest request(Target target, Operation operation, SplittableRandom random) {
+        String base = "http://localhost:" + port + target.basePath;
+        int n = random.nextInt(1000);
+        long itemId = itemIds[random.nextInt(itemIds.length)];
+
+        if (target.isApi()) {
+            String json = operation == Operation.ADD_VALID
+                    ? "{\"itemName\":\"load" + n + "\",\"price\":10000,\"quantity\":10,\"email\":\"load@example.com\"}"
+                    : "{\"itemName\":\"\",\"price\":\"qqq\",\"quantity\":10}";
+            return HttpRequest.newBuilder(URI.create(base + "/add"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+
+        switch (operation) {
+            case LIST:
+                return HttpRequest.newBuilder(URI.create(base)).GET().build();
+            case DETAIL:
+                return HttpRequest.newBuilder(URI.create(base + "/" + itemId)).GET().build();
+            case ADD_VALID:
+                return form(base + "/add", "itemName=load" + n + "&price=10000&quantity=10&email=load%40example.com");
+            case ADD_INVALID:
+                return form(base + "/add", "itemName=&price=10&quantity=&email=bad");
+            case EDIT_VALID:
+                return form(base + "/" + itemId + "/edit",
+                        "id=" + itemId + "&itemName=edit" + itemId + "&price=10000&quantity=10&email=edit%40example.com");
+            default:
+                return form(base + "/" + itemId + "/edit", "id=" + itemId + "&itemName=&price=10&quantity=1&email=bad");
+        }
+    }
+
+    private HttpRequest form(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    // 클라이언트 스레드 하나의 측정 결과 ( 스레드 안에서만 사용 )
+    static class ClientResult {
+
+        final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        long unexpected;
+
+        void record(Operation operation, long latencyNanos, boolean expected) {
+            histograms.computeIfAbsent(operation, key -> new Histogram(HIGHEST_TRACKABLE_NANOS, 3))
+                    .recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+            if (!expected) {
+                unexpected++;
+            }
+        }
+    }
+
+    // 대상 하나 ( v1~v4, API ) 의 측정 결과
+    static class TargetResult {
+
+        final Target target;
+        final Duration duration;
+        final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        final Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        long unexpected;
+
+        TargetResult(Target target, Duration duration) {
+            this.target = target;
+            this.duration = duration;
+        }
+
+        void add(ClientResult clientResult) {
+            clientResult.histograms.forEach((operation, histogram) -> {
+                histograms.computeIfAbsent(operation, key -> new Histogram(HIGHEST_TRACKABLE_NANOS, 3)).add(histogram);
+                total.add(histogram);
+            });
+            unexpected += clientResult.unexpected;
+        }
+
+        void writeHistograms(Path dir) throws IOException {
+            Files.createDirectories(dir);
+            for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+                Path file = dir.resolve(target.name().toLowerCase() + "-" + entry.getKey().name().toLowerCase() + ".hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                    // 나노초 -> 밀리초 단위로 출력
+                    entry.getValue().outputPercentileDistribution(out, 1_000_000.0);
+                }
+            }
+        }
+
+        String summary() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("[%s] requests=%d, throughput=%.1f req/s ( target %.0f ), unexpected=%d%n",
+                    target, total.getTotalCount(), total.getTotalCount() / (double) duration.getSeconds(), RATE, unexpected));
+            sb.append(String.format("  %-13s %9s %10s %10s %10s %10s%n", "operation", "count", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+            append(sb, "ALL", total);
+            histograms.forEach((operation, histogram) -> append(sb, operation.name(), histogram));
+            return sb.toString();
+        }
+
+        private void append(StringBuilder sb, String name, Histogram histogram) {
+            sb.append(String.format("  %-13s %9d %10.3f %10.3f %10.3f %10.3f%n", name, histogram.getTotalCount(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
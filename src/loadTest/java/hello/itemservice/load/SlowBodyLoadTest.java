@@ -0,0 +1,247 @@
+package hello.itemservice.load;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 느린 클라이언트 ( 요청 바디를 조금씩 보내는 연결 ) 를 몇 개까지 버티는지 : 블로킹 API vs 논블로킹 서블릿
+ * - 단계마다 느린 연결 N 개를 열고, 바디를 interval 마다 1 바이트씩 hold 시간 동안 보낸다
+ * - 그동안 같은 엔드포인트에 일반 요청 ( probe ) 을 보내서 제한 시간 안에 응답하는지 본다
+ * - 느린 연결이 모두 200 을 받고 probe 도 제한 시간 안에 응답하면 그 단계를 버틴 것으로 본다
+ * - 블로킹 API 는 바디를 기다리는 동안 톰캣 스레드를 붙잡으므로 스레드 수 근처에서 무너지고,
+ *   논블로킹 서블릿은 스레드 없이 기다리므로 연결 수 / 힙이 한계가 된다
+ * - 힙 크기는 loadTest 태스크의 maxHeapSize ( -PloadTest.maxHeap, 기본 512m ) 로 고정한다
+ *
+ * 설정 ( 시스템 프로퍼티 )
+ * - load.slow-levels : 느린 연결 수 단계 ( 기본 50,100,200,400,800 )
+ * - load.slow-hold-seconds : 바디를 보내는 시간 ( 기본 5초 )
+ * - load.slow-interval-millis : 1 바이트를 보내는 간격 ( 기본 500ms )
+ * - load.probe-timeout-millis : probe 제한 시간 ( 기본 2000ms )
+ * - load.tomcat-threads : 톰캣 최대 스레드 수 ( 기본 100 )
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "item.admission.enabled=false",
+        "item.idempotency.enabled=false",
+        "logging.level.hello.itemservice=warn",
+        "server.tomcat.threads.max=${load.tomcat-threads:100}",
+        "server.tomcat.max-connections=10000"
+})
+class SlowBodyLoadTest {
+
+    static final int[] LEVELS = Arrays.stream(System.getProperty("load.slow-levels", "50,100,200,400,800").split(","))
+            .map(String::trim).mapToInt(Integer::parseInt).toArray();
+    static final Duration HOLD = Duration.ofSeconds(Long.getLong("load.slow-hold-seconds", 5));
+    static final long INTERVAL_MILLIS = Long.getLong("load.slow-interval-millis", 500);
+    static final Duration PROBE_TIMEOUT = Duration.ofMillis(Long.getLong("load.probe-timeout-millis", 2000));
+    static final Path REPORT_DIR = Paths.get(System.getProperty("load.report-dir", "build/reports/load"));
+
+    static final String JSON = "{\"itemName\":\"slow\",\"price\":10000,\"quantity\":10}";
+
+    static final List<String> results = new CopyOnWriteArrayList<>();
+
+    enum Target {
+        BLOCKING("/validation/api/items/add"),
+        NON_BLOCKING("/validation/api/non-blocking/items/add");
+
+        final String path;
+
+        Target(String path) {
+            this.path = path;
+        }
+    }
+
+    @LocalServerPort
+    int port;
+
+    final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+
+    @ParameterizedTest
+    @EnumSource(Target.class)
+    void slowBody(Target target) throws Exception {
+        int sustained = 0;
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("[%s] maxHeap=%dMB, hold=%ds, interval=%dms, probeTimeout=%dms%n", target,
+                Runtime.getRuntime().maxMemory() / (1024 * 1024), HOLD.getSeconds(), INTERVAL_MILLIS, PROBE_TIMEOUT.toMillis()));
+        sb.append(String.format("  %8s %8s %8s %12s %12s%n", "slow", "ok", "probe", "probe(ms)", "heapUsed(MB)"));
+
+        for (int level : LEVELS) {
+            LevelResult result = runLevel(target, level);
+            sb.append(String.format("  %8d %8d %8s %12d %12d%n", level, result.ok, result.probeOk ? "ok" : "timeout",
+                    result.probeMillis, result.heapUsedBytes / (1024 * 1024)));
+            if (!result.sustained(level)) {
+                break;
+            }
+            sustained = level;
+        }
+        sb.append(String.format("  -> sustained %d slow connections%n", sustained));
+
+        results.add(sb.toString());
+        System.out.println(sb);
+
+        assertThat(sustained).as("%s 가장 작은 단계도 버티지 못함", target).isPositive();
+    }
+
+    @AfterAll
+    static void writeReport() throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(REPORT_DIR.resolve("slow-body.txt")))) {
+            results.forEach(out::println);
+        }
+    }
+
+    private LevelResult runLevel(Target target, int level) throws Exception {
+        byte[] body = body();
+        List<Socket> sockets = new ArrayList<>(level);
+        LevelResult result = new LevelResult();
+        try {
+            // 1. 느린 연결을 열고 헤더 + 바디 첫 바이트까지 보낸다
+            for (int i = 0; i < level; i++) {
+                Socket socket = new Socket();
+                socket.connect(new InetSocketAddress("localhost", port), 5000);
+                socket.setSoTimeout(30_000);
+                OutputStream out = socket.getOutputStream();
+                out.write(head(target, body.length));
+                out.write(body, 0, 1);
+                out.flush();
+                sockets.add(socket);
+            }
+
+            // 2. hold 시간 동안 1 바이트씩 보내면서 중간에 probe 를 보낸다
+            ExecutorService probeExecutor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> probe = null;
+                int position = 1;
+                long deadline = System.nanoTime() + HOLD.toNanos();
+                while (System.nanoTime() < deadline && position < body.length - 1) {
+                    TimeUnit.MILLISECONDS.sleep(INTERVAL_MILLIS);
+                    for (Socket socket : sockets) {
+                        socket.getOutputStream().write(body[position]);
+                        socket.getOutputStream().flush();
+                    }
+                    position++;
+                    if (probe == null) {
+                        probe = probeExecutor.submit(() -> probe(target, result));
+                    }
+                }
+                result.heapUsedBytes = memoryMXBean.getHeapMemoryUsage().getUsed();
+
+                // 3. 남은 바디를 보내고 응답 상태를 읽는다
+                for (Socket socket : sockets) {
+                    socket.getOutputStream().write(body, position, body.length - position);
+                    socket.getOutputStream().flush();
+                }
+                for (Socket socket : sockets) {
+                    if (readStatus(socket) == 200) {
+                        result.ok++;
+                    }
+                }
+                if (probe != null) {
+                    probe.get();
+                }
+            } finally {
+                probeExecutor.shutdownNow();
+            }
+        } finally {
+            for (Socket socket : sockets) {
+                try {
+                    socket.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+        return result;
+    }
+
+    private void probe(Target target, LevelResult result) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + target.path))
+                .header("Content-Type", "application/json")
+                .timeout(PROBE_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(JSON))
+                .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            result.probeOk = response.statusCode() == 200;
+        } catch (IOException e) {
+            result.probeOk = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        result.probeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    // JSON 앞의 공백은 허용되므로 hold 시간 동안 보낼 만큼 공백을 붙인다
+    private static byte[] body() {
+        int padding = (int) (HOLD.toMillis() / INTERVAL_MILLIS) + 2;
+        return (" ".repeat(padding) + JSON).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] head(Target target, int contentLength) {
+        return ("POST " + target.path + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Content-Type: application/json\r\n"
+                + "Content-Length: " + contentLength + "\r\n"
+                + "Connection: close\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static int readStatus(Socket socket) {
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            String statusLine = reader.readLine();
+            return statusLine == null ? -1 : Integer.parseInt(statusLine.split(" ")[1]);
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    // 단계 하나의 결과 ( probe 결과는 probe 스레드가 쓰고 Future.get 뒤에 읽는다 )
+    static class LevelResult {
+
+        int ok;
+        volatile boolean probeOk;
+        volatile long probeMillis;
+        long heapUsedBytes;
+
+        boolean sustained(int level) {
+            return ok == level && probeOk;
+        }
+    }
+}
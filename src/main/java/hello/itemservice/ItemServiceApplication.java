@@ -2,12 +2,25 @@ package hello.itemservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationListener;
 
 @SpringBootApplication
 public class ItemServiceApplication {
 
+	// 시작 단계 ( 빈 생성, 컨텍스트 단계 ) 기록 최대 개수 - /startup/timeline 으로 조회 ( item.startup.timeline-enabled=true )
+	private static final int STARTUP_STEP_CAPACITY = 10_000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(ItemServiceApplication.class, args);
+		SpringApplication application = new SpringApplication(ItemServiceApplication.class);
+		// 설정을 읽은 뒤, 컨텍스트를 만들기 전에 정한다 ( 꺼져 있으면 기록하지 않고 버퍼도 만들지 않는다 )
+		application.addListeners((ApplicationListener<ApplicationEnvironmentPreparedEvent>) event -> {
+			if (event.getEnvironment().getProperty("item.startup.timeline-enabled", Boolean.class, false)) {
+				event.getSpringApplication().setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+			}
+		});
+		application.run(args);
 	}
 
 }
@@ -2,24 +2,36 @@ package hello.itemservice;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.seed.ItemSeedProperties;
+import hello.itemservice.seed.ItemSeeder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 
+// lazy 프로필 ( spring.main.lazy-initialization=true ) 에서도 기동할 때 데이터를 넣는다 ( 이 빈을 필요로 하는 곳이 없어서 lazy 면 만들어지지 않는다 )
+@Lazy(false)
 @Component
 @RequiredArgsConstructor
 public class TestDataInit {
 
     private final ItemRepository itemRepository;
+    private final ItemSeeder itemSeeder;
+    private final ItemSeedProperties itemSeedProperties;
 
     /**
      * 테스트용 데이터 추가
+     * - item.seed.count 가 설정되어 있으면 그 수만큼 대량 데이터를 만든다
      */
     @PostConstruct
     public void init() {
+        if (itemSeedProperties.getCount() > 0) {
+            itemSeeder.seed(itemSeedProperties.getCount());
+            return;
+        }
         itemRepository.save(new Item("itemA", 10000, 10));
         itemRepository.save(new Item("itemB", 20000, 20));
     }
 
-}
\ No newline at end of file
+}
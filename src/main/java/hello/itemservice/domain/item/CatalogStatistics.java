@@ -0,0 +1,113 @@
+package hello.itemservice.domain.item;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 집계 ( 상품 수, 재고 금액 합계, 가격 최소/최대/평균 )
+ * - 저장/수정 알림마다 수정 전 값을 빼고 수정 후 값을 더한다 -> 조회는 상품 수와 관계없이 바로 끝난다
+ * - 합계는 LongAdder ( 스레드별로 나눠 더하는 누산기 ) 로 모아서 쓰기끼리 경합하지 않는다
+ * - 재고 금액 ( 가격 * 수량 ) 은 상품 하나로도 int 를 넘고 합계는 long 도 넘을 수 있으므로
+ *   상위 / 하위 32비트를 따로 더하고 조회할 때 BigInteger 로 합친다
+ *   ( 하위 누산기 하나가 long 을 넘으려면 상품이 약 21억 개 있어야 한다 )
+ * - 최소/최대 가격은 가격별 상품 수를 ConcurrentSkipListMap 에 두고 첫 / 마지막 키로 구한다
+ * - 각 값은 따로 갱신되므로 쓰는 도중에 조회하면 항목끼리 잠깐 어긋날 수 있다 ( 쓰기가 끝나면 정확 )
+ */
+@Component
+public class CatalogStatistics implements ItemChangeListener {
+
+    private static final long LOW_MASK = 0xFFFF_FFFFL;
+
+    private final LongAdder itemCount = new LongAdder();
+
+    // 가격과 수량이 모두 있는 상품의 가격 * 수량 합계
+    private final LongAdder inventoryValueHigh = new LongAdder();
+    private final LongAdder inventoryValueLow = new LongAdder();
+
+    // 가격이 있는 상품
+    private final LongAdder pricedCount = new LongAdder();
+    private final LongAdder priceSum = new LongAdder();
+    private final ConcurrentSkipListMap<Integer, Long> priceCounts = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void onChange(Item before, Item after) {
+        if (before == null) {
+            itemCount.increment();
+        } else {
+            apply(before, -1);
+        }
+        apply(after, 1);
+    }
+
+    // 초기화 도중의 저장은 반영되지 않을 수 있다 ( 테스트 / 시드 초기화 용도 )
+    @Override
+    public void onClear() {
+        itemCount.reset();
+        inventoryValueHigh.reset();
+        inventoryValueLow.reset();
+        pricedCount.reset();
+        priceSum.reset();
+        priceCounts.clear();
+    }
+
+    public Summary summary() {
+        long priced = pricedCount.sum();
+        Map.Entry<Integer, Long> min = priceCounts.firstEntry();
+        Map.Entry<Integer, Long> max = priceCounts.lastEntry();
+
+        BigInteger inventoryValue = BigInteger.valueOf(inventoryValueHigh.sum()).shiftLeft(32)
+                .add(BigInteger.valueOf(inventoryValueLow.sum()));
+        return new Summary(
+                itemCount.sum(),
+                inventoryValue,
+                priced,
+                min == null ? null : min.getKey(),
+                max == null ? null : max.getKey(),
+                priced == 0 ? null : (double) priceSum.sum() / priced);
+    }
+
+    private void apply(Item item, int sign) {
+        Integer price = item.getPrice();
+        Integer quantity = item.getQuantity();
+
+        if (price != null && quantity != null) {
+            // int * int 는 long 을 넘지 않는다
+            long value = (long) price * quantity;
+            inventoryValueHigh.add(sign * (value >> 32));
+            inventoryValueLow.add(sign * (value & LOW_MASK));
+        }
+
+        if (price != null) {
+            pricedCount.add(sign);
+            priceSum.add((long) sign * price);
+            // 상품 수가 0 이 되면 null 을 반환해서 키를 지운다
+            priceCounts.merge(price, (long) sign, (count, delta) -> count + delta == 0 ? null : count + delta);
+        }
+    }
+
+    @Getter
+    public static class Summary {
+
+        private final long itemCount;
+        private final BigInteger totalInventoryValue;
+        private final long pricedItemCount;
+        private final Integer minPrice;
+        private final Integer maxPrice;
+        private final Double averagePrice;
+
+        public Summary(long itemCount, BigInteger totalInventoryValue, long pricedItemCount,
+                       Integer minPrice, Integer maxPrice, Double averagePrice) {
+            this.itemCount = itemCount;
+            this.totalInventoryValue = totalInventoryValue;
+            this.pricedItemCount = pricedItemCount;
+            this.minPrice = minPrice;
+            this.maxPrice = maxPrice;
+            this.averagePrice = averagePrice;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package hello.itemservice.domain.item;
+
+/**
+ * ItemRepository 변경 알림
+ * - ItemRepository 의 id 별 잠금 안에서 ( 저장소 compute 가 끝난 뒤 ) 호출되므로 같은 상품의 변경은 일어난 순서대로 전달된다
+ * - 저장 스레드에서 바로 호출되므로 짧게 끝내야 하고, 저장소를 다시 호출하면 안 된다
+ */
+public interface ItemChangeListener {
+
+    /**
+     * @param before 변경 전 상품 ( 저장이면 null )
+     * @param after  변경 후 상품
+     */
+    void onChange(Item before, Item after);
+
+    // clearStore
+    default void onClear() {
+    }
+}
@@ -1,42 +1,229 @@
 package hello.itemservice.domain.item;
 
+import hello.itemservice.domain.item.id.IdAllocator;
+import hello.itemservice.domain.item.id.LocalIdAllocator;
+import hello.itemservice.domain.item.store.ItemStore;
+import hello.itemservice.domain.item.store.SnapshotItemStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.AbstractList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
+/**
+ * 상품 저장소
+ * - 상품은 ItemStore 에 둔다 ( 기본은 스냅샷 트라이, item.store.mode 로 변경 )
+ * - 여러 요청 스레드가 동시에 접근하므로 ItemStore 의 id 별 원자적 compute 로 저장/수정
+ * - id 는 IdAllocator 가 발급한다 ( 여러 인스턴스에서 겹치지 않게 하려면 item.id.allocator=hilo )
+ * - 저장소에 들어간 상품은 바꾸지 않는다 ( 저장은 복사본을, 수정은 새 객체를 넣는다 )
+ *   -> 조회하는 쪽은 수정 전 또는 수정 후 상태만 보게 된다 ( 필드 일부만 바뀐 상태를 보지 않는다 )
+ * - 조회는 복사본을 돌려준다 ( Item 은 setter 가 있으므로 호출한 쪽이 바꿔도 저장소의 상품은 그대로 )
+ *   findAll 은 목록을 복사하지 않고, 원소를 꺼낼 때마다 그 원소만 복사한다 ( 스냅샷 목록은 그대로 O(1) )
+ * - 저장/수정은 등록된 ItemChangeListener 에 알린다 ( 변경 피드 등 )
+ *   알림은 저장소의 compute 밖에서, id 별 잠금 ( stripe ) 을 잡은 채로 보낸다
+ *   -> 저장소는 잠금 없이 CAS 로 쓰고, 같은 상품의 알림 순서는 지켜지며, 다른 상품끼리는 서로 기다리지 않는다
+ */
 @Repository
 public class ItemRepository {
 
-    private static final Map<Long, Item> store = new HashMap<>(); //static
-    private static long sequence = 0L; //static
+    public enum PatchResult {
+        UPDATED, UNCHANGED, CONFLICT, NOT_FOUND
+    }
+
+    private final IdAllocator idAllocator;
+    private final ItemStore store;
+    private final ItemChangeListener[] listeners;
+
+    private static final int STRIPES = 64;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public ItemRepository() {
+        this(new LocalIdAllocator(), new SnapshotItemStore(), List.of());
+    }
+
+    public ItemRepository(IdAllocator idAllocator, ItemStore store, List<ItemChangeListener> listeners) {
+        this.idAllocator = idAllocator;
+        this.store = store;
+        this.listeners = listeners.toArray(new ItemChangeListener[0]);
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Autowired
+    public ItemRepository(IdAllocator idAllocator, ItemStore store, ObjectProvider<ItemChangeListener> listeners) {
+        this(idAllocator, store, listeners.orderedStream().collect(Collectors.toList()));
+    }
 
     public Item save(Item item) {
-        item.setId(++sequence);
-        store.put(item.getId(), item);
+        item.setId(idAllocator.nextId());
+        put(item);
         return item;
     }
 
+    /**
+     * 대량 저장 ( 시드 데이터 적재용 )
+     */
+    public List<Item> saveAll(List<Item> items) {
+        for (Item item : items) {
+            item.setId(idAllocator.nextId());
+            put(item);
+        }
+        return items;
+    }
+
     public Item findById(Long id) {
-        return store.get(id);
+        if (id == null) {
+            return null;
+        }
+        Item item = store.get(id);
+        return item == null ? null : copyOf(id, item);
     }
 
     public List<Item> findAll() {
-        return new ArrayList<>(store.values());
+        return new CopyingList(store.values());
     }
 
+    // 값이 그대로면 교체/알림을 하지 않는다
     public void update(Long itemId, Item updateParam) {
-        Item findItem = findById(itemId);
-        findItem.setItemName(updateParam.getItemName());
-        findItem.setPrice(updateParam.getPrice());
-        findItem.setQuantity(updateParam.getQuantity());
-        findItem.setEmail(updateParam.getEmail());
+        ReentrantLock lock = lockFor(itemId);
+        lock.lock();
+        try {
+            Item[] before = new Item[1];
+            Item after = store.computeIfPresent(itemId, (id, findItem) -> {
+                before[0] = findItem;
+                Item updatedItem = copyOf(id, updateParam);
+                return updatedItem.equals(findItem) ? findItem : updatedItem;
+            });
+            if (after != null && after != before[0]) {
+                notifyChange(before[0], after);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 부분 수정 ( PATCH )
+     * - expected : 호출한 쪽이 검증에 사용한 상품 ( findById 결과 ). 그 사이 다른 수정으로 값이 바뀌었으면 CONFLICT
+     *   -> 검증한 값과 저장하는 값이 어긋나지 않는다 ( 가격 * 수량 규칙 등 )
+     * - patched 가 저장된 값과 같으면 교체/알림 없이 UNCHANGED
+     */
+    public PatchResult patch(Long itemId, Item expected, Item patched) {
+        ReentrantLock lock = lockFor(itemId);
+        lock.lock();
+        try {
+            PatchResult[] result = {PatchResult.NOT_FOUND};
+            Item[] before = new Item[1];
+            Item after = store.computeIfPresent(itemId, (id, current) -> {
+                before[0] = current;
+                if (!current.equals(expected)) {
+                    result[0] = PatchResult.CONFLICT;
+                    return current;
+                }
+                Item patchedItem = copyOf(id, patched);
+                if (patchedItem.equals(current)) {
+                    result[0] = PatchResult.UNCHANGED;
+                    return current;
+                }
+                result[0] = PatchResult.UPDATED;
+                return patchedItem;
+            });
+            if (result[0] == PatchResult.UPDATED) {
+                notifyChange(before[0], after);
+            }
+            return result[0];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long count() {
+        return store.size();
     }
 
     public void clearStore() {
         store.clear();
+        for (ItemChangeListener listener : listeners) {
+            listener.onClear();
+        }
+    }
+
+    // 알림도 id 별 잠금 안에서 보내야 같은 상품에 대한 저장 -> 수정 알림 순서가 뒤바뀌지 않는다
+    // 저장한 뒤 호출한 쪽이 객체를 바꿔도 저장소의 상품 ( 스냅샷 ) 은 바뀌지 않도록 복사본을 넣는다
+    private void put(Item item) {
+        ReentrantLock lock = lockFor(item.getId());
+        lock.lock();
+        try {
+            Item[] before = new Item[1];
+            Item savedItem = store.compute(item.getId(), (id, current) -> {
+                before[0] = current;
+                return copyOf(id, item);
+            });
+            notifyChange(before[0], savedItem);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(Long id) {
+        return locks[Long.hashCode(id * 0x9e3779b97f4a7c15L) & (STRIPES - 1)];
+    }
+
+    private static Item copyOf(Long id, Item source) {
+        Item item = new Item(source.getItemName(), source.getPrice(), source.getQuantity());
+        item.setId(id);
+        item.setEmail(source.getEmail());
+        return item;
+    }
+
+    private void notifyChange(Item before, Item after) {
+        for (ItemChangeListener listener : listeners) {
+            listener.onChange(before, after);
+        }
+    }
+
+    // 저장소의 목록을 감싸서 꺼내는 원소마다 복사본을 돌려준다 ( 읽기 전용 )
+    private static class CopyingList extends AbstractList<Item> implements RandomAccess {
+
+        private final List<Item> items;
+
+        CopyingList(List<Item> items) {
+            this.items = items;
+        }
+
+        @Override
+        public Item get(int index) {
+            Item item = items.get(index);
+            return copyOf(item.getId(), item);
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public Iterator<Item> iterator() {
+            Iterator<Item> iterator = items.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Item next() {
+                    Item item = iterator.next();
+                    return copyOf(item.getId(), item);
+                }
+            };
+        }
     }
 
 }
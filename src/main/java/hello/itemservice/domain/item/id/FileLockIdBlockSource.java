@@ -0,0 +1,81 @@
+package hello.itemservice.domain.item.id;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파일 하나를 공유 카운터로 쓰는 id 블록 발급처
+ * - 파일에는 다음에 빌려줄 첫 id 를 8바이트로 저장한다 ( 파일이 없거나 비어 있으면 1 )
+ * - 파일 잠금 ( FileChannel.lock ) 으로 같은 파일을 쓰는 다른 프로세스와 순서를 맞춘다
+ * - 파일 잠금은 JVM 단위라서 같은 JVM 안의 스레드끼리는 경로별 모니터로 한 번 더 막는다
+ *   ( 같은 JVM 에서 겹쳐서 lock 하면 OverlappingFileLockException )
+ * - 외부 서비스 없이 여러 인스턴스를 흉내낼 수 있어 테스트, 한 서버 다중 인스턴스 용도
+ */
+public class FileLockIdBlockSource implements IdBlockSource {
+
+    private static final ConcurrentHashMap<Path, Object> JVM_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Object jvmLock;
+
+    public FileLockIdBlockSource(Path file) {
+        this.file = file.toAbsolutePath().normalize();
+        this.jvmLock = JVM_LOCKS.computeIfAbsent(this.file, key -> new Object());
+    }
+
+    @Override
+    public long leaseBlock(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize 는 1 이상이어야 합니다. blockSize=" + blockSize);
+        }
+        synchronized (jvmLock) {
+            try {
+                Path parent = file.getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                try (FileChannel channel = FileChannel.open(file,
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                     FileLock ignored = channel.lock()) {
+                    long first = read(channel);
+                    write(channel, Math.addExact(first, blockSize));
+                    channel.force(false);
+                    return first;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("id 블록을 빌리지 못했습니다. file=" + file, e);
+            }
+        }
+    }
+
+    private long read(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        channel.position(0);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        if (buffer.hasRemaining()) {
+            return 1L;
+        }
+        buffer.flip();
+        return buffer.getLong();
+    }
+
+    private void write(FileChannel channel, long next) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        buffer.putLong(next).flip();
+        channel.position(0);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
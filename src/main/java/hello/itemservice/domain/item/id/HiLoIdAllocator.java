@@ -0,0 +1,60 @@
+package hello.itemservice.domain.item.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * hi/lo 방식 id 발급기
+ * - 공유 발급처 ( IdBlockSource ) 에서 blockSize 개의 id 블록을 빌리고 ( hi )
+ *   블록 안에서는 로컬 카운터로 하나씩 나눠준다 ( lo )
+ * - 저장마다 공유 발급처에 가지 않으므로 병목이 없고, 블록이 겹치지 않으므로 인스턴스끼리 id 가 겹치지 않는다
+ * - 블록 안에서는 AtomicLong 하나로 잠금 없이 발급, 블록을 다 쓴 경우에만 한 스레드가 새 블록을 빌린다
+ * - 인스턴스가 재시작하면 남은 블록은 버려진다 ( id 에 빈 구간이 생길 수 있다 )
+ */
+public class HiLoIdAllocator implements IdAllocator {
+
+    private final IdBlockSource blockSource;
+    private final int blockSize;
+
+    private volatile Block current;
+
+    public HiLoIdAllocator(IdBlockSource blockSource, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize 는 1 이상이어야 합니다. blockSize=" + blockSize);
+        }
+        this.blockSource = blockSource;
+        this.blockSize = blockSize;
+        // 첫 블록은 첫 저장 때 빌린다
+        this.current = new Block(0, 0);
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            Block block = current;
+            long id = block.next.getAndIncrement();
+            if (id < block.end) {
+                return id;
+            }
+            refill(block);
+        }
+    }
+
+    // 다 쓴 블록을 새 블록으로 바꾼다. 다른 스레드가 이미 바꿨으면 아무것도 하지 않는다
+    private synchronized void refill(Block exhausted) {
+        if (current == exhausted) {
+            long first = blockSource.leaseBlock(blockSize);
+            current = new Block(first, first + blockSize);
+        }
+    }
+
+    private static class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        Block(long first, long end) {
+            this.next = new AtomicLong(first);
+            this.end = end;
+        }
+    }
+}
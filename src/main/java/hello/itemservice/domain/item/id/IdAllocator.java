@@ -0,0 +1,10 @@
+package hello.itemservice.domain.item.id;
+
+/**
+ * 상품 id 발급기
+ * - ItemRepository 가 저장할 때마다 호출하므로 스레드 안전하고 빨라야 한다
+ */
+public interface IdAllocator {
+
+    long nextId();
+}
@@ -0,0 +1,21 @@
+package hello.itemservice.domain.item.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+@Slf4j
+@Configuration
+public class IdAllocatorConfig {
+
+    @Bean
+    public IdAllocator idAllocator(IdAllocatorProperties properties) {
+        if (properties.getAllocator() == IdAllocatorProperties.Strategy.HILO) {
+            log.info("hi/lo id 발급 사용 - blockFile={}, blockSize={}", properties.getBlockFile(), properties.getBlockSize());
+            return new HiLoIdAllocator(new FileLockIdBlockSource(Paths.get(properties.getBlockFile())), properties.getBlockSize());
+        }
+        return new LocalIdAllocator();
+    }
+}
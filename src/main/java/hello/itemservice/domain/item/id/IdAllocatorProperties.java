@@ -0,0 +1,29 @@
+package hello.itemservice.domain.item.id;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 id 발급 설정 ( item.id.* )
+ * - 기본은 인스턴스 하나용 ( local ). 여러 인스턴스가 데이터를 공유하면 hilo 로 바꾼다
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "item.id")
+public class IdAllocatorProperties {
+
+    public enum Strategy {
+        LOCAL, HILO
+    }
+
+    private Strategy allocator = Strategy.LOCAL;
+
+    // hilo : 한 번에 빌리는 id 개수
+    private int blockSize = 1000;
+
+    // hilo : 인스턴스들이 함께 쓰는 카운터 파일
+    private String blockFile = "data/item-id.seq";
+}
@@ -0,0 +1,14 @@
+package hello.itemservice.domain.item.id;
+
+/**
+ * 여러 인스턴스가 공유하는 id 블록 발급처
+ * - 블록 하나를 빌릴 때만 호출되므로 느려도 된다 ( 저장 blockSize 번에 한 번 )
+ */
+public interface IdBlockSource {
+
+    /**
+     * blockSize 개의 연속된 id 를 빌려준다
+     * @return 블록의 첫 id ( first ~ first + blockSize - 1 을 사용할 수 있다 )
+     */
+    long leaseBlock(int blockSize);
+}
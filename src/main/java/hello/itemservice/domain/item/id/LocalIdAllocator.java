@@ -0,0 +1,17 @@
+package hello.itemservice.domain.item.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인스턴스 하나에서만 쓰는 id 발급기 ( 1 부터 순서대로 )
+ * - 여러 인스턴스가 데이터를 공유하면 id 가 겹친다 -> HiLoIdAllocator 사용
+ */
+public class LocalIdAllocator implements IdAllocator {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public long nextId() {
+        return sequence.incrementAndGet();
+    }
+}
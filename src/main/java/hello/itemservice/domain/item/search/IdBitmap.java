@@ -0,0 +1,93 @@
+package hello.itemservice.domain.item.search;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongPredicate;
+
+/**
+ * 상품 id 집합 ( 페이지 단위 비트맵 )
+ * - id 1024개를 한 페이지 ( long 16개 ) 로 묶고, id 가 하나도 없는 페이지는 만들지 않는다
+ *   -> id 당 1비트, Long 객체 / 해시 노드가 없다
+ * - 페이지는 id 순서로 정렬되어 있어서 교집합 / 순회가 id 오름차순
+ * - 비트 설정/해제는 CAS 라서 잠금이 없다. 읽는 쪽은 쓰는 도중의 변경을 볼 수도, 못 볼 수도 있다
+ */
+class IdBitmap {
+
+    private static final int PAGE_BITS = 10;
+    private static final int WORDS_PER_PAGE = (1 << PAGE_BITS) / Long.SIZE;
+
+    private final ConcurrentSkipListMap<Long, AtomicLongArray> pages = new ConcurrentSkipListMap<>();
+
+    void add(long id) {
+        AtomicLongArray page = pages.computeIfAbsent(id >>> PAGE_BITS, key -> new AtomicLongArray(WORDS_PER_PAGE));
+        long bit = 1L << id;
+        page.getAndAccumulate(wordIndex(id), bit, (word, mask) -> word | mask);
+    }
+
+    // 비어도 페이지는 남겨둔다 ( 같은 구간에 다시 들어오는 경우가 많고, 지우면 add 와 경합한다 )
+    void remove(long id) {
+        AtomicLongArray page = pages.get(id >>> PAGE_BITS);
+        if (page != null) {
+            long bit = 1L << id;
+            page.getAndAccumulate(wordIndex(id), bit, (word, mask) -> word & ~mask);
+        }
+    }
+
+    boolean contains(long id) {
+        AtomicLongArray page = pages.get(id >>> PAGE_BITS);
+        return page != null && (page.get(wordIndex(id)) & (1L << id)) != 0;
+    }
+
+    int pageCount() {
+        return pages.size();
+    }
+
+    /**
+     * 모든 집합에 들어있는 id 를 오름차순으로 consumer 에 넘긴다. consumer 가 false 를 반환하면 멈춘다
+     * - 페이지가 가장 적은 집합의 페이지만 훑고, 나머지 집합은 같은 페이지를 찾아 AND 한다
+     */
+    static void intersect(IdBitmap[] bitmaps, LongPredicate consumer) {
+        IdBitmap smallest = bitmaps[0];
+        for (IdBitmap bitmap : bitmaps) {
+            if (bitmap.pageCount() < smallest.pageCount()) {
+                smallest = bitmap;
+            }
+        }
+
+        AtomicLongArray[] others = new AtomicLongArray[bitmaps.length];
+        for (Map.Entry<Long, AtomicLongArray> entry : smallest.pages.entrySet()) {
+            long pageIndex = entry.getKey();
+            boolean missing = false;
+            for (int i = 0; i < bitmaps.length; i++) {
+                others[i] = bitmaps[i].pages.get(pageIndex);
+                if (others[i] == null) {
+                    missing = true;
+                    break;
+                }
+            }
+            if (missing) {
+                continue;
+            }
+
+            for (int w = 0; w < WORDS_PER_PAGE; w++) {
+                long word = -1L;
+                for (AtomicLongArray page : others) {
+                    word &= page.get(w);
+                }
+                while (word != 0) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    long id = (pageIndex << PAGE_BITS) | ((long) w << 6) | bit;
+                    if (!consumer.test(id)) {
+                        return;
+                    }
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    private static int wordIndex(long id) {
+        return (int) (id >>> 6) & (WORDS_PER_PAGE - 1);
+    }
+}
@@ -0,0 +1,111 @@
+package hello.itemservice.domain.item.search;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemChangeListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * 상품명 n-gram 역색인
+ * - 상품명 ( 소문자 ) 의 글자 하나 ( unigram ) 와 연속된 두 글자 ( bigram ) 마다 상품 id 집합 ( IdBitmap ) 을 둔다
+ *   한글은 음절 하나가 한 글자라서 "노트북" -> 노, 트, 북, 노트, 트북
+ * - 검색어가 한 글자면 unigram, 두 글자 이상이면 검색어의 모든 bigram 집합의 교집합이 후보
+ *   후보는 bigram 이 모두 들어있을 뿐 순서대로 붙어있다는 보장은 없으므로 ItemSearchService 가 실제 상품명으로 확인한다
+ * - 저장/수정 알림을 받아 바뀐 gram 만 반영한다 ( 같은 상품의 알림은 순서대로 오므로 잠금 없이 처리 )
+ */
+@Component
+public class ItemNameIndex implements ItemChangeListener {
+
+    // unigram 과 bigram 이 겹치지 않도록 unigram 에 표시 비트
+    private static final long UNIGRAM = 1L << 32;
+
+    private final ConcurrentHashMap<Long, IdBitmap> postings = new ConcurrentHashMap<>();
+
+    @Override
+    public void onChange(Item before, Item after) {
+        Set<Long> oldGrams = before == null ? Set.of() : grams(normalize(before.getItemName()));
+        Set<Long> newGrams = grams(normalize(after.getItemName()));
+        if (oldGrams.equals(newGrams)) {
+            return;
+        }
+
+        long id = after.getId();
+        for (Long gram : oldGrams) {
+            if (!newGrams.contains(gram)) {
+                IdBitmap bitmap = postings.get(gram);
+                if (bitmap != null) {
+                    bitmap.remove(id);
+                }
+            }
+        }
+        for (Long gram : newGrams) {
+            if (!oldGrams.contains(gram)) {
+                postings.computeIfAbsent(gram, key -> new IdBitmap()).add(id);
+            }
+        }
+    }
+
+    @Override
+    public void onClear() {
+        postings.clear();
+    }
+
+    /**
+     * 검색어의 gram 을 모두 가진 상품 id 를 오름차순으로 넘긴다. consumer 가 false 를 반환하면 멈춘다
+     */
+    public void forEachCandidate(String query, LongPredicate consumer) {
+        Set<Long> grams = queryGrams(normalize(query));
+        if (grams.isEmpty()) {
+            return;
+        }
+        IdBitmap[] bitmaps = new IdBitmap[grams.size()];
+        int i = 0;
+        for (Long gram : grams) {
+            IdBitmap bitmap = postings.get(gram);
+            if (bitmap == null) {
+                return;
+            }
+            bitmaps[i++] = bitmap;
+        }
+        IdBitmap.intersect(bitmaps, consumer);
+    }
+
+    public int gramCount() {
+        return postings.size();
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(UNIGRAM | text.charAt(i));
+            if (i + 1 < text.length()) {
+                grams.add(bigram(text.charAt(i), text.charAt(i + 1)));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<Long> queryGrams(String query) {
+        if (query.length() == 1) {
+            return Set.of(UNIGRAM | query.charAt(0));
+        }
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(bigram(query.charAt(i), query.charAt(i + 1)));
+        }
+        return grams;
+    }
+
+    private static long bigram(char first, char second) {
+        return ((long) first << 16) | second;
+    }
+}
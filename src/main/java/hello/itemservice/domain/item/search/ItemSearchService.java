@@ -0,0 +1,39 @@
+package hello.itemservice.domain.item.search;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품명 부분 문자열 검색
+ * - ItemNameIndex 로 후보 id 를 좁히고, 후보의 실제 상품명에 검색어가 들어있는지 확인한다 ( 대소문자 무시 )
+ * - 결과는 id 오름차순, 최대 limit 개 ( 다 모으면 후보를 더 보지 않는다 )
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemSearchService {
+
+    private final ItemNameIndex itemNameIndex;
+    private final ItemRepository itemRepository;
+
+    public List<Item> search(String query, int limit) {
+        String normalizedQuery = ItemNameIndex.normalize(query);
+        List<Item> result = new ArrayList<>();
+        if (normalizedQuery.isEmpty() || limit <= 0) {
+            return result;
+        }
+
+        itemNameIndex.forEachCandidate(normalizedQuery, id -> {
+            Item item = itemRepository.findById(id);
+            if (item != null && ItemNameIndex.normalize(item.getItemName()).contains(normalizedQuery)) {
+                result.add(item);
+            }
+            return result.size() < limit;
+        });
+        return result;
+    }
+}
@@ -0,0 +1,165 @@
+package hello.itemservice.domain.item.store;
+
+import hello.itemservice.domain.item.Item;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 차가운 상품을 내려두는 메모리 매핑 세그먼트 파일
+ * - 기록은 파일 끝에 덧붙이기만 한다. 위치 ( offset ) 가 곧 레코드의 주소
+ * - 파일을 chunkSize 단위로 매핑하고, 레코드는 chunk 경계를 넘지 않게 쓴다
+ * - 수정되어 더 이상 쓰지 않는 레코드는 지우지 않고 deadBytes 로만 센다.
+ *   비율이 커지면 TieredItemStore 가 살아 있는 레코드만 새 세그먼트로 옮기고 파일을 바꾼다 ( 압축 )
+ * - 이 프로세스의 캐시 용도라서 시작할 때 파일을 비운다 ( 영속 저장소가 아님 )
+ *
+ * 레코드 : [int 길이][long id][int price][int quantity][문자열 itemName][문자열 email]
+ *          숫자 null 은 Integer.MIN_VALUE, 문자열은 [int 바이트수 ( null 이면 -1 )][UTF-8]
+ */
+class ColdSegment implements Closeable {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private final FileChannel channel;
+    private final int chunkSize;
+    private final List<MappedByteBuffer> chunks = new CopyOnWriteArrayList<>();
+    private final AtomicLong deadBytes = new AtomicLong();
+    private long writeOffset;
+
+    ColdSegment(Path file, int chunkSize) {
+        this.chunkSize = chunkSize;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트 파일을 열지 못했습니다. file=" + file, e);
+        }
+    }
+
+    synchronized long append(Item item) {
+        byte[] itemName = encode(item.getItemName());
+        byte[] email = encode(item.getEmail());
+        int bodyLength = Long.BYTES + Integer.BYTES * 2 + stringLength(itemName) + stringLength(email);
+        int recordLength = Integer.BYTES + bodyLength;
+        if (recordLength > chunkSize) {
+            throw new IllegalArgumentException("상품이 세그먼트 chunk 보다 큽니다. id=" + item.getId() + ", bytes=" + recordLength);
+        }
+
+        int chunkIndex = (int) (writeOffset / chunkSize);
+        int position = (int) (writeOffset % chunkSize);
+        if (position + recordLength > chunkSize) {
+            chunkIndex++;
+            position = 0;
+            writeOffset = (long) chunkIndex * chunkSize;
+        }
+
+        ByteBuffer buffer = chunk(chunkIndex).duplicate();
+        buffer.position(position);
+        buffer.putInt(bodyLength);
+        buffer.putLong(item.getId());
+        buffer.putInt(item.getPrice() == null ? NULL_INT : item.getPrice());
+        buffer.putInt(item.getQuantity() == null ? NULL_INT : item.getQuantity());
+        putString(buffer, itemName);
+        putString(buffer, email);
+
+        long offset = writeOffset;
+        writeOffset += recordLength;
+        return offset;
+    }
+
+    Item read(long offset) {
+        ByteBuffer buffer = chunks.get((int) (offset / chunkSize)).duplicate();
+        buffer.position((int) (offset % chunkSize) + Integer.BYTES);
+
+        long id = buffer.getLong();
+        int price = buffer.getInt();
+        int quantity = buffer.getInt();
+        Item item = new Item(getString(buffer), price == NULL_INT ? null : price, quantity == NULL_INT ? null : quantity);
+        item.setId(id);
+        item.setEmail(getString(buffer));
+        return item;
+    }
+
+    // 더 이상 쓰지 않는 레코드
+    void discard(long offset) {
+        ByteBuffer buffer = chunks.get((int) (offset / chunkSize)).duplicate();
+        deadBytes.addAndGet(Integer.BYTES + buffer.getInt((int) (offset % chunkSize)));
+    }
+
+    synchronized void reset() {
+        writeOffset = 0;
+        deadBytes.set(0);
+    }
+
+    synchronized long usedBytes() {
+        return writeOffset;
+    }
+
+    long deadBytes() {
+        return deadBytes.get();
+    }
+
+    // 쓰지 않는 레코드가 전체의 ratio 를 넘었는지 ( chunk 하나도 다 채우지 않은 파일은 압축하지 않는다 )
+    boolean needsCompaction(double ratio) {
+        long used = usedBytes();
+        return used >= chunkSize && deadBytes.get() > used * ratio;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private MappedByteBuffer chunk(int index) {
+        try {
+            while (chunks.size() <= index) {
+                chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) chunks.size() * chunkSize, chunkSize));
+            }
+            return chunks.get(index);
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트 파일을 매핑하지 못했습니다.", e);
+        }
+    }
+
+    private static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringLength(byte[] bytes) {
+        return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,37 @@
+package hello.itemservice.domain.item.store;
+
+import hello.itemservice.domain.item.Item;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * ItemRepository 의 실제 저장 공간
+ * - compute 는 같은 id 에 대해 원자적으로 실행되어야 한다 ( ConcurrentHashMap.compute 와 같은 의미 )
+ */
+public interface ItemStore {
+
+    Item get(Long id);
+
+    /**
+     * @param remapping ( id, 현재 상품 또는 null ) -> 새 상품. null 을 반환하면 삭제
+     * @return 새 상품
+     */
+    Item compute(Long id, BiFunction<Long, Item, Item> remapping);
+
+    // 저장된 상품이 있을 때만 remapping 실행
+    default Item computeIfPresent(Long id, BiFunction<Long, Item, Item> remapping) {
+        return compute(id, (key, item) -> item == null ? null : remapping.apply(key, item));
+    }
+
+    // 호출 시점의 복사본
+    List<Item> values();
+
+    long size();
+
+    void clear();
+
+    // /validation/api/items/stats 로 보여줄 지표
+    Map<String, Object> stats();
+}
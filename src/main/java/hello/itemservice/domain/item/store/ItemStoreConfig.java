@@ -0,0 +1,26 @@
+package hello.itemservice.domain.item.store;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+@Slf4j
+@Configuration
+public class ItemStoreConfig {
+
+    @Bean
+    public ItemStore itemStore(ItemStoreProperties properties) {
+        if (properties.getMode() == ItemStoreProperties.Mode.TIERED) {
+            log.info("2단 저장 공간 사용 - maxHotItems={}, segmentFile={}", properties.getMaxHotItems(), properties.getSegmentFile());
+            return new TieredItemStore(properties.getMaxHotItems(), properties.getProtectedRatio(),
+                    Paths.get(properties.getSegmentFile()), properties.getSegmentChunkSize(),
+                    properties.getSegmentCompactionRatio());
+        }
+        if (properties.getMode() == ItemStoreProperties.Mode.MEMORY) {
+            return new MemoryItemStore();
+        }
+        return new SnapshotItemStore();
+    }
+}
@@ -0,0 +1,36 @@
+package hello.itemservice.domain.item.store;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 저장 공간 설정 ( item.store.* )
+ * - snapshot ( 기본 ) : 힙, findAll 이 복사 없이 스냅샷을 돌려준다
+ * - memory : 힙, ConcurrentHashMap
+ * - tiered : 상품이 힙에 다 들어가지 않을 때 ( 힙 + 디스크 )
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "item.store")
+public class ItemStoreProperties {
+
+    public enum Mode {
+        SNAPSHOT, MEMORY, TIERED
+    }
+
+    private Mode mode = Mode.SNAPSHOT;
+
+    // tiered : 힙에 두는 최대 상품 수, 그 중 protected 영역 비율
+    private int maxHotItems = 100_000;
+    private double protectedRatio = 0.8;
+
+    // tiered : 차가운 상품을 내려두는 파일, 매핑 단위 ( 바이트 )
+    private String segmentFile = "data/item-cold.seg";
+    private int segmentChunkSize = 64 * 1024 * 1024;
+
+    // tiered : 수정되어 쓰지 않는 레코드가 파일의 이 비율을 넘으면 살아 있는 레코드만 새 파일로 옮긴다
+    private double segmentCompactionRatio = 0.5;
+}
@@ -0,0 +1,278 @@
+package hello.itemservice.domain.item.store;
+
+import hello.itemservice.domain.item.Item;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * id -> 상품 영속 ( persistent ) 트라이
+ * - 한 번 만든 트라이는 바뀌지 않는다. put / remove 는 바뀐 경로의 노드만 새로 만들고 나머지는 공유한다 ( path copying )
+ *   -> 예전 트라이를 들고 있는 쪽은 잠금 없이 그대로 읽을 수 있다 ( 스냅샷 )
+ * - id 를 6비트씩 잘라 위에서부터 자식을 고른다 ( 노드당 자식 최대 64개 )
+ *   노드는 있는 자식만 배열에 담고 long 비트맵으로 위치를 찾는다 ( 빈 칸이 메모리를 차지하지 않음 )
+ * - 높은 자리부터 나누므로 순회하면 id 오름차순
+ * - id 가 커지면 높이를 한 단계씩 늘린다 ( 기존 루트가 새 루트의 0번 자식 )
+ */
+final class ItemTrie {
+
+    private static final int BITS = 6;
+    private static final int MASK = (1 << BITS) - 1;
+    // 6 * 11 = 66 비트 >= 양수 long 63 비트
+    private static final int MAX_LEVELS = 11;
+
+    static final ItemTrie EMPTY = new ItemTrie(null, 1);
+
+    private final Node root;
+    private final int levels;
+
+    private ItemTrie(Node root, int levels) {
+        this.root = root;
+        this.levels = levels;
+    }
+
+    Item get(long id) {
+        if (root == null || !fits(id, levels)) {
+            return null;
+        }
+        Node node = root;
+        for (int level = levels - 1; level > 0; level--) {
+            node = (Node) node.child(digit(id, level));
+            if (node == null) {
+                return null;
+            }
+        }
+        return (Item) node.child(digit(id, 0));
+    }
+
+    ItemTrie put(long id, Item item) {
+        if (id < 0) {
+            throw new IllegalArgumentException("id 는 음수일 수 없습니다. id=" + id);
+        }
+        Node newRoot = root;
+        int newLevels = levels;
+        while (!fits(id, newLevels)) {
+            if (newRoot != null) {
+                newRoot = Node.EMPTY.with(0, newRoot, newRoot.count);
+            }
+            newLevels++;
+        }
+        return new ItemTrie(put(newRoot, newLevels - 1, id, item), newLevels);
+    }
+
+    ItemTrie remove(long id) {
+        if (root == null || !fits(id, levels)) {
+            return this;
+        }
+        Node newRoot = remove(root, levels - 1, id);
+        return newRoot == root ? this : new ItemTrie(newRoot, levels);
+    }
+
+    long size() {
+        return root == null ? 0 : root.count;
+    }
+
+    int levels() {
+        return levels;
+    }
+
+    // O(1) 로 만드는 읽기 전용 목록. 순회는 id 오름차순, get(index) 는 O(높이 * 64)
+    List<Item> values() {
+        return new Values(this);
+    }
+
+    private static Node put(Node node, int level, long id, Item item) {
+        if (node == null) {
+            node = Node.EMPTY;
+        }
+        int digit = digit(id, level);
+        if (level == 0) {
+            return node.with(digit, item, node.child(digit) == null ? 1 : 0);
+        }
+        Node child = (Node) node.child(digit);
+        Node newChild = put(child, level - 1, id, item);
+        return node.with(digit, newChild, newChild.count - (child == null ? 0 : child.count));
+    }
+
+    // 없으면 같은 노드, 비면 null
+    private static Node remove(Node node, int level, long id) {
+        int digit = digit(id, level);
+        Object child = node.child(digit);
+        if (child == null) {
+            return node;
+        }
+        if (level == 0) {
+            return node.without(digit, 1);
+        }
+        Node childNode = (Node) child;
+        Node newChild = remove(childNode, level - 1, id);
+        if (newChild == childNode) {
+            return node;
+        }
+        if (newChild == null) {
+            return node.without(digit, childNode.count);
+        }
+        return node.with(digit, newChild, newChild.count - childNode.count);
+    }
+
+    private static int digit(long id, int level) {
+        return (int) ((id >>> (BITS * level)) & MASK);
+    }
+
+    private static boolean fits(long id, int levels) {
+        return levels >= MAX_LEVELS || (id >>> (BITS * levels)) == 0;
+    }
+
+    private static final class Node {
+
+        static final Node EMPTY = new Node(0L, new Object[0], 0);
+
+        private final long bitmap;
+        // 자식 노드 ( 맨 아래 단계는 상품 ). 자리 번호 오름차순
+        private final Object[] children;
+        // 이 노드 아래의 상품 수
+        private final long count;
+
+        private Node(long bitmap, Object[] children, long count) {
+            this.bitmap = bitmap;
+            this.children = children;
+            this.count = count;
+        }
+
+        Object child(int digit) {
+            long bit = 1L << digit;
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            return children[Long.bitCount(bitmap & (bit - 1))];
+        }
+
+        Node with(int digit, Object child, long countDelta) {
+            long bit = 1L << digit;
+            int index = Long.bitCount(bitmap & (bit - 1));
+            Object[] newChildren;
+            if ((bitmap & bit) != 0) {
+                newChildren = children.clone();
+                newChildren[index] = child;
+            } else {
+                newChildren = new Object[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                newChildren[index] = child;
+                System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            }
+            return new Node(bitmap | bit, newChildren, count + countDelta);
+        }
+
+        Node without(int digit, long removedCount) {
+            if (children.length == 1) {
+                return null;
+            }
+            long bit = 1L << digit;
+            int index = Long.bitCount(bitmap & (bit - 1));
+            Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            return new Node(bitmap & ~bit, newChildren, count - removedCount);
+        }
+    }
+
+    private static final class Values extends AbstractList<Item> {
+
+        private final ItemTrie trie;
+
+        Values(ItemTrie trie) {
+            this.trie = trie;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(Integer.MAX_VALUE, trie.size());
+        }
+
+        @Override
+        public Item get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("index=" + index + ", size=" + size());
+            }
+            long remaining = index;
+            Node node = trie.root;
+            for (int level = trie.levels - 1; ; level--) {
+                for (Object child : node.children) {
+                    long childCount = level == 0 ? 1 : ((Node) child).count;
+                    if (remaining < childCount) {
+                        if (level == 0) {
+                            return (Item) child;
+                        }
+                        node = (Node) child;
+                        break;
+                    }
+                    remaining -= childCount;
+                }
+            }
+        }
+
+        @Override
+        public Iterator<Item> iterator() {
+            return new ValuesIterator(trie);
+        }
+    }
+
+    // 루트부터 현재 경로의 노드와 위치를 배열로 들고 깊이 우선으로 내려간다
+    private static final class ValuesIterator implements Iterator<Item> {
+
+        private final Node[] path;
+        private final int[] positions;
+        private int depth;
+        private Item next;
+
+        ValuesIterator(ItemTrie trie) {
+            this.path = new Node[trie.levels];
+            this.positions = new int[trie.levels];
+            if (trie.root == null) {
+                this.depth = -1;
+            } else {
+                this.path[0] = trie.root;
+                this.depth = 0;
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Item next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Item item = next;
+            advance();
+            return item;
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Node node = path[depth];
+                int position = positions[depth];
+                if (position >= node.children.length) {
+                    depth--;
+                    continue;
+                }
+                positions[depth]++;
+                Object child = node.children[position];
+                if (depth == path.length - 1) {
+                    next = (Item) child;
+                    return;
+                }
+                depth++;
+                path[depth] = (Node) child;
+                positions[depth] = 0;
+            }
+        }
+    }
+}
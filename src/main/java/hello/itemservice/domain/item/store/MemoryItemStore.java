@@ -0,0 +1,56 @@
+package hello.itemservice.domain.item.store;
+
+import hello.itemservice.domain.item.Item;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 모든 상품을 힙에 두는 저장 공간 ( 기본 )
+ */
+public class MemoryItemStore implements ItemStore {
+
+    private final ConcurrentHashMap<Long, Item> store = new ConcurrentHashMap<>();
+
+    @Override
+    public Item get(Long id) {
+        return store.get(id);
+    }
+
+    @Override
+    public Item compute(Long id, BiFunction<Long, Item, Item> remapping) {
+        return store.compute(id, remapping);
+    }
+
+    @Override
+    public Item computeIfPresent(Long id, BiFunction<Long, Item, Item> remapping) {
+        return store.computeIfPresent(id, remapping);
+    }
+
+    @Override
+    public List<Item> values() {
+        return new ArrayList<>(store.values());
+    }
+
+    @Override
+    public long size() {
+        return store.size();
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", "memory");
+        stats.put("size", store.size());
+        return stats;
+    }
+}
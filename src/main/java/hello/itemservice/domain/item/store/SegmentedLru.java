@@ -0,0 +1,97 @@
+package hello.itemservice.domain.item.store;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세그먼트 LRU ( SLRU ) - 뜨거운 영역에 남길 항목을 고르는 정책
+ * - 새 항목은 probation 에 들어가고, probation 에서 한 번 더 조회되면 protected 로 올라간다
+ * - protected 가 가득 차면 가장 오래된 항목을 probation 의 최근 위치로 내린다
+ * - 내보낼 대상 ( victim ) 은 probation 의 가장 오래된 항목 -> 한 번 스캔된 항목이 자주 쓰는 항목을 밀어내지 못한다
+ * - 모든 메서드는 이 객체로 동기화한다 ( 호출하는 쪽은 짧은 작업만 한다 )
+ */
+class SegmentedLru<K, V> {
+
+    // 둘 다 삽입 순서 ( 앞쪽이 오래된 항목 ). 조회시 지웠다가 다시 넣어서 뒤로 보낸다
+    private final LinkedHashMap<K, V> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<K, V> protectedSegment = new LinkedHashMap<>();
+    private final int protectedCapacity;
+
+    SegmentedLru(int capacity, double protectedRatio) {
+        this.protectedCapacity = Math.max(1, (int) (capacity * protectedRatio));
+    }
+
+    // 조회 ( 순서 갱신 )
+    synchronized V get(K key) {
+        V value = protectedSegment.remove(key);
+        if (value != null) {
+            protectedSegment.put(key, value);
+            return value;
+        }
+        value = probation.remove(key);
+        if (value != null) {
+            promote(key, value);
+        }
+        return value;
+    }
+
+    // 조회 ( 순서 유지 )
+    synchronized V peek(K key) {
+        V value = protectedSegment.get(key);
+        return value != null ? value : probation.get(key);
+    }
+
+    synchronized void put(K key, V value) {
+        if (protectedSegment.containsKey(key)) {
+            protectedSegment.remove(key);
+            protectedSegment.put(key, value);
+        } else if (probation.remove(key) != null) {
+            promote(key, value);
+        } else {
+            probation.put(key, value);
+        }
+    }
+
+    synchronized V remove(K key) {
+        V value = protectedSegment.remove(key);
+        return value != null ? value : probation.remove(key);
+    }
+
+    synchronized K victim() {
+        if (!probation.isEmpty()) {
+            return probation.keySet().iterator().next();
+        }
+        if (!protectedSegment.isEmpty()) {
+            return protectedSegment.keySet().iterator().next();
+        }
+        return null;
+    }
+
+    synchronized int size() {
+        return probation.size() + protectedSegment.size();
+    }
+
+    synchronized List<K> keys() {
+        List<K> keys = new ArrayList<>(probation.keySet());
+        keys.addAll(protectedSegment.keySet());
+        return keys;
+    }
+
+    synchronized void clear() {
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    private void promote(K key, V value) {
+        protectedSegment.put(key, value);
+        if (protectedSegment.size() > protectedCapacity) {
+            Iterator<Map.Entry<K, V>> eldest = protectedSegment.entrySet().iterator();
+            Map.Entry<K, V> demoted = eldest.next();
+            eldest.remove();
+            probation.put(demoted.getKey(), demoted.getValue());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package hello.itemservice.domain.item.store;
+
+import hello.itemservice.domain.item.Item;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+/**
+ * 스냅샷 저장 공간 ( 기본 ) - 영속 트라이 ( ItemTrie ) 의 루트를 교체하는 방식 ( copy-on-write )
+ * - 읽기 : 현재 루트를 읽기만 하므로 잠금이 없고, findAll 은 루트를 감싼 목록을 O(1) 로 돌려준다
+ *   목록을 만든 뒤의 저장/수정은 그 목록에 보이지 않는다 ( 렌더링 도중에 상품이 바뀌지 않음 )
+ * - 쓰기 : 새 루트를 만들어 CAS 로 교체한다 ( 잠금 없음 ). 그 사이 다른 쓰기가 루트를 바꿨으면 새 루트로 다시 한다
+ *   -> remapping 은 여러 번 실행될 수 있으므로 부작용이 없어야 한다 ( 변경 알림은 ItemRepository 가 compute 밖에서 보낸다 )
+ */
+public class SnapshotItemStore implements ItemStore {
+
+    private final AtomicReference<ItemTrie> root = new AtomicReference<>(ItemTrie.EMPTY);
+
+    @Override
+    public Item get(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return root.get().get(id);
+    }
+
+    @Override
+    public Item compute(Long id, BiFunction<Long, Item, Item> remapping) {
+        while (true) {
+            ItemTrie current = root.get();
+            Item before = current.get(id);
+            Item after = remapping.apply(id, before);
+            if (after == before) {
+                return after;
+            }
+            ItemTrie next = after == null ? current.remove(id) : current.put(id, after);
+            if (root.compareAndSet(current, next)) {
+                return after;
+            }
+        }
+    }
+
+    @Override
+    public List<Item> values() {
+        return root.get().values();
+    }
+
+    @Override
+    public long size() {
+        return root.get().size();
+    }
+
+    @Override
+    public void clear() {
+        root.set(ItemTrie.EMPTY);
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        ItemTrie snapshot = root.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", "snapshot");
+        stats.put("size", snapshot.size());
+        stats.put("trieLevels", snapshot.levels());
+        return stats;
+    }
+}
@@ -0,0 +1,333 @@
+package hello.itemservice.domain.item.store;
+
+import hello.itemservice.domain.item.Item;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * 2단 저장 공간 - 자주 쓰는 상품만 힙에 두고 나머지는 디스크 세그먼트로 내린다
+ * - 뜨거운 영역 ( hot ) : 최대 maxHotItems 개, SLRU 정책으로 내보낼 상품을 고른다
+ * - 차가운 영역 ( cold ) : 메모리 매핑 세그먼트 파일. 힙에는 id -> 파일 위치 색인만 남는다
+ * - get 에서 cold 에 있는 상품을 찾으면 읽어서 hot 으로 올린다 ( 호출하는 쪽은 어느 영역인지 모른다 )
+ * - cold 에서 올라온 상품은 파일 위치를 기억해서, 수정 없이 다시 내려갈 때는 다시 쓰지 않는다
+ * - 수정되어 쓰지 않는 레코드가 파일의 compactionRatio 를 넘으면 살아 있는 레코드만 새 파일로 옮긴다 ( 압축 )
+ *   압축하는 동안은 모든 잠금을 잡으므로 다른 작업이 기다린다 ( cold 영역의 살아 있는 바이트에 비례 )
+ *
+ * 동시성
+ * - 같은 id 의 작업은 id 별 잠금 ( 64개로 나눔 ) 으로 순서를 맞춘다
+ * - 내보내기는 작업을 마친 뒤 잠금 밖에서 하고, 내보낼 상품의 잠금을 따로 잡는다
+ */
+@Slf4j
+public class TieredItemStore implements ItemStore, Closeable {
+
+    private static final int STRIPES = 64;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final SegmentedLru<Long, HotEntry> hot;
+    private final int maxHotItems;
+    private final Map<Long, Long> coldIndex = new ConcurrentHashMap<>();
+    private final Path segmentFile;
+    private final int segmentChunkSize;
+    private final double compactionRatio;
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    // 압축할 때 바뀐다 ( 모든 잠금을 잡고 바꾸므로 잠금 안에서 읽으면 항상 최신 )
+    private volatile ColdSegment cold;
+    private final AtomicLong size = new AtomicLong();
+
+    private final LongAdder hotHits = new LongAdder();
+    private final LongAdder coldHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder spills = new LongAdder();
+    private final LongAdder compactions = new LongAdder();
+
+    public TieredItemStore(int maxHotItems, double protectedRatio, Path segmentFile, int segmentChunkSize,
+                           double compactionRatio) {
+        if (maxHotItems <= 0) {
+            throw new IllegalArgumentException("maxHotItems 는 1 이상이어야 합니다. maxHotItems=" + maxHotItems);
+        }
+        if (compactionRatio <= 0 || compactionRatio >= 1) {
+            throw new IllegalArgumentException("compactionRatio 는 0 과 1 사이여야 합니다. compactionRatio=" + compactionRatio);
+        }
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.maxHotItems = maxHotItems;
+        this.hot = new SegmentedLru<>(maxHotItems, protectedRatio);
+        this.segmentFile = segmentFile;
+        this.segmentChunkSize = segmentChunkSize;
+        this.compactionRatio = compactionRatio;
+        this.cold = new ColdSegment(segmentFile, segmentChunkSize);
+    }
+
+    @Override
+    public Item get(Long id) {
+        Item item;
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            HotEntry entry = hot.get(id);
+            if (entry != null) {
+                hotHits.increment();
+                return entry.item;
+            }
+            Long offset = coldIndex.get(id);
+            if (offset == null) {
+                misses.increment();
+                return null;
+            }
+            coldHits.increment();
+            item = cold.read(offset);
+            hot.put(id, new HotEntry(item, offset));
+        } finally {
+            lock.unlock();
+        }
+        evictIfNeeded();
+        return item;
+    }
+
+    @Override
+    public Item compute(Long id, BiFunction<Long, Item, Item> remapping) {
+        Item after;
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            Item before = peekLocked(id);
+            after = remapping.apply(id, before);
+            if (after == before) {
+                return after;
+            }
+            discardCold(id);
+            if (after == null) {
+                hot.remove(id);
+                size.decrementAndGet();
+            } else {
+                hot.put(id, new HotEntry(after, -1));
+                if (before == null) {
+                    size.incrementAndGet();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        evictIfNeeded();
+        compactIfNeeded();
+        return after;
+    }
+
+    // cold 영역 상품까지 모두 읽으므로 비싸다. hot 으로 올리지는 않는다
+    @Override
+    public List<Item> values() {
+        Set<Long> ids = new HashSet<>(hot.keys());
+        ids.addAll(coldIndex.keySet());
+
+        List<Item> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ReentrantLock lock = lockFor(id);
+            lock.lock();
+            try {
+                Item item = peekLocked(id);
+                if (item != null) {
+                    items.add(item);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        items.sort(Comparator.comparing(Item::getId));
+        return items;
+    }
+
+    @Override
+    public long size() {
+        return size.get();
+    }
+
+    @Override
+    public void clear() {
+        lockAll();
+        try {
+            hot.clear();
+            coldIndex.clear();
+            cold.reset();
+            size.set(0);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        long hotHitCount = hotHits.sum();
+        long coldHitCount = coldHits.sum();
+        long lookups = hotHitCount + coldHitCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", "tiered");
+        stats.put("size", size.get());
+        stats.put("hotItems", hot.size());
+        stats.put("maxHotItems", maxHotItems);
+        stats.put("coldItems", coldIndex.size());
+        stats.put("hotHits", hotHitCount);
+        stats.put("coldHits", coldHitCount);
+        stats.put("misses", misses.sum());
+        // 1 에 가까우면 자주 쓰는 상품이 hot 영역에 다 들어간다
+        stats.put("hitRatio", lookups == 0 ? 1.0 : (double) hotHitCount / lookups);
+        stats.put("evictions", evictions.sum());
+        stats.put("spills", spills.sum());
+        stats.put("segmentBytes", cold.usedBytes());
+        stats.put("segmentDeadBytes", cold.deadBytes());
+        stats.put("compactions", compactions.sum());
+        return stats;
+    }
+
+    @Override
+    public void close() throws IOException {
+        cold.close();
+    }
+
+    private void evictIfNeeded() {
+        while (hot.size() > maxHotItems) {
+            Long victim = hot.victim();
+            if (victim == null) {
+                return;
+            }
+            ReentrantLock lock = lockFor(victim);
+            lock.lock();
+            try {
+                HotEntry entry = hot.remove(victim);
+                if (entry == null) {
+                    continue;
+                }
+                evictions.increment();
+                if (entry.coldOffset < 0) {
+                    coldIndex.put(victim, cold.append(entry.item));
+                    spills.increment();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 압축은 한 스레드만 한다 ( 다른 스레드는 기다리지 않고 건너뛴다 )
+    private void compactIfNeeded() {
+        if (!cold.needsCompaction(compactionRatio) || !compacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            lockAll();
+            try {
+                if (cold.needsCompaction(compactionRatio)) {
+                    compactLocked();
+                }
+            } finally {
+                unlockAll();
+            }
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    /**
+     * 살아 있는 레코드만 새 세그먼트에 옮겨 쓰고, 새 파일로 기존 파일을 바꾼다 ( 모든 잠금을 잡은 상태 )
+     * - hot 영역의 coldOffset 은 "cold 에 같은 내용이 있는지" 로만 쓰므로 그대로 두고, 위치는 coldIndex 만 바꾼다
+     */
+    private void compactLocked() {
+        ColdSegment source = cold;
+        Path compactFile = segmentFile.resolveSibling(segmentFile.getFileName() + ".compact");
+        ColdSegment target = new ColdSegment(compactFile, segmentChunkSize);
+        long deadBytes = source.deadBytes();
+        // 다 옮기기 전에 실패하면 기존 세그먼트와 위치를 그대로 쓴다
+        Map<Long, Long> moved = new HashMap<>(coldIndex.size() * 2);
+        try {
+            for (Map.Entry<Long, Long> entry : coldIndex.entrySet()) {
+                moved.put(entry.getKey(), target.append(source.read(entry.getValue())));
+            }
+            Files.move(compactFile, segmentFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            closeQuietly(target);
+            throw new UncheckedIOException("세그먼트 파일을 압축하지 못했습니다. file=" + segmentFile, e);
+        } catch (RuntimeException e) {
+            closeQuietly(target);
+            throw e;
+        }
+        coldIndex.putAll(moved);
+        cold = target;
+        closeQuietly(source);
+        compactions.increment();
+        log.info("세그먼트 압축 - 정리한 바이트={}, 남은 바이트={}", deadBytes, target.usedBytes());
+    }
+
+    private static void closeQuietly(ColdSegment segment) {
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("세그먼트 파일을 닫지 못했습니다.", e);
+        }
+    }
+
+    private void lockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+
+    private Item peekLocked(Long id) {
+        HotEntry entry = hot.peek(id);
+        if (entry != null) {
+            return entry.item;
+        }
+        Long offset = coldIndex.get(id);
+        return offset == null ? null : cold.read(offset);
+    }
+
+    private void discardCold(Long id) {
+        Long offset = coldIndex.remove(id);
+        if (offset != null) {
+            cold.discard(offset);
+        }
+    }
+
+    private ReentrantLock lockFor(Long id) {
+        return locks[Long.hashCode(id * 0x9e3779b97f4a7c15L) & (STRIPES - 1)];
+    }
+
+    private static class HotEntry {
+
+        private final Item item;
+        // cold 영역에 같은 내용이 있으면 그 위치, 없으면 -1
+        private final long coldOffset;
+
+        HotEntry(Item item, long coldOffset) {
+            this.item = item;
+            this.coldOffset = coldOffset;
+        }
+    }
+}
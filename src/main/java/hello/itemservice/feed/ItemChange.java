@@ -0,0 +1,27 @@
+package hello.itemservice.feed;
+
+import hello.itemservice.domain.item.Item;
+import lombok.Getter;
+
+/**
+ * 변경 피드의 항목 하나
+ * - sequence 는 피드 안에서 빈틈없이 1씩 증가한다 ( SSE 이벤트 id 로 사용 )
+ */
+@Getter
+public class ItemChange {
+
+    public enum Type {
+        SAVED, UPDATED, CLEARED
+    }
+
+    private final long sequence;
+    private final Type type;
+    // CLEARED 이면 null
+    private final Item item;
+
+    public ItemChange(long sequence, Type type, Item item) {
+        this.sequence = sequence;
+        this.type = type;
+        this.item = item;
+    }
+}
@@ -0,0 +1,93 @@
+package hello.itemservice.feed;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemChangeListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 상품 변경 피드 ( 잠금 없는 링 버퍼 )
+ * - 쓰는 쪽 : sequence 를 getAndIncrement 로 받고 sequence % capacity 칸에 덮어쓴다 -> 읽는 쪽을 기다리지 않는다
+ * - 읽는 쪽 : 자기 위치 ( cursor ) 부터 칸의 sequence 를 확인하며 읽는다
+ *   - 칸의 sequence 가 cursor 보다 작으면 아직 쓰이지 않은 것 -> 여기까지만 읽는다
+ *   - 칸의 sequence 가 cursor 보다 크면 이미 덮어써진 것 -> RESYNC ( 전체를 다시 불러와야 한다 )
+ */
+@Component
+public class ItemChangeFeed implements ItemChangeListener {
+
+    // poll 결과 : 너무 뒤처져서 링에서 이어 읽을 수 없음
+    public static final long RESYNC = -1L;
+
+    private final AtomicReferenceArray<ItemChange> slots;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    @Autowired
+    public ItemChangeFeed(ItemFeedProperties properties) {
+        this(properties.getCapacity());
+    }
+
+    public ItemChangeFeed(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다. capacity=" + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    @Override
+    public void onChange(Item before, Item after) {
+        publish(before == null ? ItemChange.Type.SAVED : ItemChange.Type.UPDATED, after);
+    }
+
+    @Override
+    public void onClear() {
+        publish(ItemChange.Type.CLEARED, null);
+    }
+
+    private void publish(ItemChange.Type type, Item item) {
+        long sequence = nextSequence.getAndIncrement();
+        slots.set((int) (sequence & mask), new ItemChange(sequence, type, item));
+    }
+
+    /**
+     * 다음에 발행될 sequence
+     * - 목록을 조회하기 전에 읽어 두고 그 값부터 구독하면 조회 이후의 변경을 놓치지 않는다
+     */
+    public long nextSequence() {
+        return nextSequence.get();
+    }
+
+    /**
+     * cursor 부터 최대 max 개의 변경을 out 에 담는다
+     * @return 다음 cursor, 이어 읽을 수 없으면 RESYNC
+     */
+    public long poll(long cursor, int max, List<ItemChange> out) {
+        long head = nextSequence.get();
+        if (cursor < 0 || cursor > head || head - cursor > slots.length()) {
+            return RESYNC;
+        }
+        long end = Math.min(head, cursor + max);
+        while (cursor < end) {
+            ItemChange change = slots.get((int) (cursor & mask));
+            if (change == null || change.getSequence() < cursor) {
+                // sequence 는 받았지만 아직 칸에 쓰지 않은 변경 -> 다음 poll 에서 읽는다
+                break;
+            }
+            if (change.getSequence() > cursor) {
+                return RESYNC;
+            }
+            out.add(change);
+            cursor++;
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,230 @@
+package hello.itemservice.feed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 변경 SSE ( Server-Sent Events )
+ * - 목록 화면이 새로고침 ( findAll + 렌더링 ) 대신 바뀐 행만 받아서 갱신한다
+ * - 구독자마다 자기 cursor 를 가지고 주기적으로 피드를 읽어 자기 전송 큐에 넣는다 ( dispatcher, 블로킹 없음 )
+ * - 실제 전송 ( emitter.send, 블로킹 쓰기 ) 은 sender 스레드가 구독자별로 하나씩 큐를 비우면서 한다
+ *   -> 느린 구독자는 자기 전송만 늦어지고, 다른 구독자와 저장하는 쪽은 전혀 기다리지 않는다
+ * - 전송 큐가 넘치거나 링에서 이어 읽을 수 없을 만큼 뒤처지면 resync 이벤트를 보내고 연결을 닫는다 ( 화면을 다시 불러온다 )
+ * - 이벤트 하나를 sendTimeout 보다 오래 보내고 있는 구독자는 끊는다
+ * - sender 스레드 수와 대기열은 설정값으로 제한하고, 둘 다 찬 상태에서 보낼 것이 생긴 구독자는 연결을 닫는다
+ *
+ * 이벤트 : saved / updated ( data = ItemChange JSON ), cleared, resync
+ */
+@Slf4j
+@RestController
+public class ItemChangeStreamController {
+
+    private final ItemChangeFeed feed;
+    private final ItemFeedProperties properties;
+    private final ScheduledExecutorService dispatcher;
+    private final ThreadPoolExecutor sender;
+
+    public ItemChangeStreamController(ItemChangeFeed feed, ItemFeedProperties properties) {
+        this.feed = feed;
+        this.properties = properties;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = Executors.newScheduledThreadPool(Math.max(1, properties.getDispatcherThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "item-feed-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 구독자 하나에 전송 작업은 많아야 하나 ( 느린 구독자가 붙잡는 스레드는 그 구독자 몫뿐이다 )
+        // 스레드 수와 대기열이 모두 차면 execute 가 RejectedExecutionException 을 던진다 ( AbortPolicy )
+        int senderThreads = Math.max(1, properties.getSenderThreads());
+        AtomicInteger senderNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getSenderBacklog())), runnable -> {
+            Thread thread = new Thread(runnable, "item-feed-sender-" + senderNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sender.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @param lastEventId EventSource 가 다시 연결할 때 보내는 마지막 이벤트 id
+     * @param from        처음 연결할 때 시작 sequence ( 목록 화면의 feedSequence ). 없으면 지금부터
+     */
+    @GetMapping(path = "/validation/items/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes(@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId,
+                              @RequestParam(required = false) Long from) {
+        long cursor = lastEventId != null ? lastEventId + 1 : from != null ? from : feed.nextSequence();
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscription subscription = new Subscription(emitter, cursor);
+        emitter.onCompletion(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        subscription.start();
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    private class Subscription {
+
+        private static final long NOT_SENDING = -1;
+
+        private final SseEmitter emitter;
+        private final List<ItemChange> batch = new ArrayList<>();
+        private final BlockingQueue<SseEmitter.SseEventBuilder> outbound;
+        private final long sendTimeoutNanos;
+        // dispatcher 에서 한 번에 하나의 작업만 실행되므로 ( scheduleWithFixedDelay ) 동기화 필요 없음
+        private long cursor;
+
+        // sender 작업이 돌고 있는지 ( 구독자마다 하나만 ), 지금 보내고 있는 이벤트를 시작한 시각
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long sendStartedNanos = NOT_SENDING;
+
+        // resync 를 큐에 넣었으면 남은 것을 보낸 뒤 연결을 닫는다
+        private volatile boolean closing;
+        private volatile boolean timedOut;
+        private volatile boolean cancelled;
+        private volatile ScheduledFuture<?> future;
+
+        Subscription(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.outbound = new ArrayBlockingQueue<>(Math.max(1, properties.getSendQueueCapacity()));
+            this.sendTimeoutNanos = properties.getSendTimeout().toNanos();
+        }
+
+        void start() {
+            future = dispatcher.scheduleWithFixedDelay(this::dispatch,
+                    0, properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+            // future 를 넣기 전에 첫 dispatch ( 또는 onCompletion ) 가 cancel 했으면 여기서 멈춘다
+            if (cancelled) {
+                future.cancel(false);
+            }
+        }
+
+        // dispatcher 스레드 : 피드를 읽어 큐에 넣기만 한다 ( 블로킹 없음 )
+        void dispatch() {
+            if (cancelled) {
+                return;
+            }
+            long started = sendStartedNanos;
+            if (started != NOT_SENDING && System.nanoTime() - started > sendTimeoutNanos) {
+                // 보내고 있는 스레드가 emitter 를 잡고 있으므로 여기서는 구독만 끊고, 정리는 sender 가 한다
+                log.debug("변경 피드 구독자 전송 시간 초과 - cursor={}", cursor);
+                timedOut = true;
+                cancel();
+                return;
+            }
+            if (closing) {
+                return;
+            }
+
+            batch.clear();
+            long next = feed.poll(cursor, properties.getMaxBatch(), batch);
+            if (next == ItemChangeFeed.RESYNC) {
+                log.debug("변경 피드 구독자가 너무 뒤처짐 - cursor={}, head={}", cursor, feed.nextSequence());
+                resync();
+                return;
+            }
+            for (ItemChange change : batch) {
+                SseEmitter.SseEventBuilder event = SseEmitter.event()
+                        .id(Long.toString(change.getSequence()))
+                        .name(change.getType().name().toLowerCase())
+                        .data(change, MediaType.APPLICATION_JSON);
+                if (!outbound.offer(event)) {
+                    log.debug("변경 피드 구독자 전송 큐가 넘침 - cursor={}, queued={}", cursor, outbound.size());
+                    resync();
+                    return;
+                }
+            }
+            cursor = next;
+            drain();
+        }
+
+        // 보내지 못한 변경은 버리고 resync 하나만 보낸 뒤 닫는다
+        private void resync() {
+            closing = true;
+            outbound.clear();
+            outbound.offer(SseEmitter.event().name("resync").data(""));
+            drain();
+        }
+
+        private void drain() {
+            if (!outbound.isEmpty() && draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::send);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    if (!sender.isShutdown()) {
+                        // 전송 스레드와 대기열이 모두 찼다 -> 이 구독자를 닫는다 ( 다시 연결하면 Last-Event-ID 부터 이어 받는다 )
+                        log.debug("변경 피드 전송 스레드 부족 - 구독 종료, cursor={}", cursor);
+                        cancel();
+                        emitter.complete();
+                    }
+                }
+            }
+        }
+
+        // sender 스레드 : 큐가 빌 때까지 보낸다
+        private void send() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!cancelled && (event = outbound.poll()) != null) {
+                    sendStartedNanos = System.nanoTime();
+                    emitter.send(event);
+                    sendStartedNanos = NOT_SENDING;
+                }
+                if (timedOut) {
+                    emitter.completeWithError(new TimeoutException("변경 피드 전송 시간 초과"));
+                } else if (closing && outbound.isEmpty()) {
+                    emitter.complete();
+                    cancel();
+                }
+            } catch (Exception e) {
+                // 연결이 끊긴 구독자
+                log.debug("변경 피드 전송 실패 - {}", e.toString());
+                cancel();
+            } finally {
+                sendStartedNanos = NOT_SENDING;
+                draining.set(false);
+            }
+            // 빠져나오는 사이에 dispatcher 가 넣은 이벤트
+            if (!cancelled) {
+                drain();
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            outbound.clear();
+            ScheduledFuture<?> scheduled = future;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+}
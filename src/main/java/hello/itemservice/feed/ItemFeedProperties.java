@@ -0,0 +1,42 @@
+package hello.itemservice.feed;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 상품 변경 피드 설정 ( item.feed.* )
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "item.feed")
+public class ItemFeedProperties {
+
+    // 링 버퍼 크기 ( 2의 거듭제곱으로 올림 ). 이보다 많이 뒤처진 구독자는 다시 불러와야 한다
+    private int capacity = 4096;
+
+    // 구독자마다 피드를 확인하는 주기, 한 번에 보내는 최대 변경 수
+    private Duration pollInterval = Duration.ofMillis(200);
+    private int maxBatch = 256;
+
+    // SSE 연결 유지 시간 ( 끊기면 브라우저 EventSource 가 Last-Event-ID 로 다시 연결한다 )
+    private Duration timeout = Duration.ofMinutes(30);
+
+    // 피드를 읽어 구독자 큐에 넣는 스레드 수 ( 전송은 하지 않으므로 느린 구독자에게 막히지 않는다 )
+    private int dispatcherThreads = 2;
+
+    // 실제 전송 ( 블로킹 쓰기 ) 을 하는 스레드 수, 스레드를 기다릴 수 있는 구독자 수
+    // 둘 다 찬 상태에서 보낼 것이 생긴 구독자는 연결을 닫는다 ( 브라우저가 다시 연결해서 이어 받는다 )
+    private int senderThreads = 8;
+    private int senderBacklog = 256;
+
+    // 구독자마다 보내지 못한 이벤트를 쌓아 두는 큐 크기. 넘치면 resync 를 보내고 연결을 닫는다
+    private int sendQueueCapacity = 1024;
+
+    // 이벤트 하나를 보내는 데 이보다 오래 걸리는 구독자는 끊는다
+    private Duration sendTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,27 @@
+package hello.itemservice.seed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 필요할 때 시드 데이터를 추가로 만드는 API ( item.seed.endpoint-enabled=true 일 때만 등록 )
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "item.seed", name = "endpoint-enabled", havingValue = "true")
+public class ItemSeedController {
+
+    private final ItemSeeder itemSeeder;
+
+    @PostMapping("/validation/api/items/seed")
+    public Map<String, Object> seed(@RequestParam int count) {
+        long start = System.currentTimeMillis();
+        int seeded = itemSeeder.seed(count);
+        return Map.of("seeded", seeded, "elapsedMillis", System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,39 @@
+package hello.itemservice.seed;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시드 데이터 설정 ( item.seed.* )
+ * - count 가 0 이면 기존처럼 itemA, itemB 두 개만 넣는다
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "item.seed")
+public class ItemSeedProperties {
+
+    // 시작할 때 만들 상품 수
+    private int count = 0;
+
+    // 같은 seed 면 항상 같은 데이터가 만들어진다
+    private long seed = 42L;
+
+    // 검증 규칙을 하나 어기는 상품의 비율 ( 0.0 ~ 1.0 )
+    private double invalidRatio = 0.0;
+
+    // 가격은 min ~ max 사이 로그 균등 분포 ( 싼 상품이 많고 비싼 상품이 적다 )
+    private int minPrice = 1000;
+    private int maxPrice = 1000000;
+
+    // 수량은 1 ~ maxQuantity 균등 분포
+    private int maxQuantity = 9999;
+
+    // 한 번에 저장소에 넣는 개수
+    private int batchSize = 10_000;
+
+    // /validation/api/items/seed 로 필요할 때 추가 생성 허용 여부
+    private boolean endpointEnabled = false;
+}
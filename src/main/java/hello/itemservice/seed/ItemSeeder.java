@@ -0,0 +1,109 @@
+package hello.itemservice.seed;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 대량 시드 데이터 생성기
+ * - 상품 하나하나를 (seed, 순번) 으로만 만들기 때문에 병렬로 생성해도 결과가 항상 같다
+ * - 상품마다 난수 시드를 (seed ^ 순번) 을 섞은 값으로 잡아서 이웃한 상품끼리 난수열이 겹치지 않게 한다
+ * - batchSize 단위로 병렬 생성 후 ItemRepository.saveAll 로 한 번에 저장한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSeeder {
+
+    private static final String[] NAMES = {"itemA", "itemB", "노트북", "키보드", "마우스", "모니터", "의자", "책상", "스피커", "헤드폰"};
+    private static final int MIN_TOTAL_PRICE = 10000;
+
+    private final ItemRepository itemRepository;
+    private final ItemSeedProperties properties;
+
+    // 지금까지 만든 상품 수 ( 다음 생성은 이어지는 순번부터 )
+    private final AtomicLong generated = new AtomicLong();
+
+    public int seed(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count 는 0 이상이어야 합니다. count=" + count);
+        }
+        long start = System.nanoTime();
+        long offset = generated.getAndAdd(count);
+        int batchSize = Math.max(1, properties.getBatchSize());
+
+        for (long from = offset; from < offset + count; from += batchSize) {
+            long to = Math.min(offset + count, from + batchSize);
+            List<Item> batch = LongStream.range(from, to)
+                    .parallel()
+                    .mapToObj(this::generate)
+                    .collect(Collectors.toList());
+            itemRepository.saveAll(batch);
+        }
+
+        log.info("시드 데이터 생성 - count={}, elapsed={}ms", count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return count;
+    }
+
+    Item generate(long index) {
+        SplittableRandom random = random(index);
+
+        String itemName = NAMES[random.nextInt(NAMES.length)] + "-" + index;
+
+        // 가격 : 로그 균등 분포
+        double logMin = Math.log(properties.getMinPrice());
+        double logMax = Math.log(properties.getMaxPrice());
+        int price = (int) Math.round(Math.exp(logMin + random.nextDouble() * (logMax - logMin)));
+        price = Math.max(properties.getMinPrice(), Math.min(properties.getMaxPrice(), price));
+
+        // 수량 : 가격 * 수량 >= 10,000 규칙을 지키도록 최소 수량을 맞춘다
+        int minQuantity = Math.min(properties.getMaxQuantity(), (MIN_TOTAL_PRICE + price - 1) / price);
+        int quantity = Math.max(minQuantity, 1 + random.nextInt(properties.getMaxQuantity()));
+
+        Item item = new Item(itemName, price, quantity);
+        item.setEmail("seller" + (index % 1000) + "@example.com");
+
+        if (random.nextDouble() < properties.getInvalidRatio()) {
+            breakOneRule(item, random);
+        }
+        return item;
+    }
+
+    // seed + 순번 * GAMMA 를 그대로 시드로 쓰면 순번 i 의 두 번째 난수가 순번 i+1 의 첫 번째 난수와 같아진다
+    SplittableRandom random(long index) {
+        return new SplittableRandom(mix64(properties.getSeed() ^ index));
+    }
+
+    // murmur3 fmix64
+    static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    // 검증 규칙 하나를 어긴 상품으로 만든다
+    private void breakOneRule(Item item, SplittableRandom random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                item.setItemName(" ");
+                break;
+            case 1:
+                item.setPrice(properties.getMaxPrice() + 1 + random.nextInt(1000));
+                break;
+            case 2:
+                item.setQuantity(10000 + random.nextInt(1000));
+                break;
+            default:
+                item.setEmail("invalid-email");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package hello.itemservice.startup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 관련 설정 ( item.startup.* )
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "item.startup")
+public class StartupProperties {
+
+    // 기동 완료 후 백그라운드에서 검증 / 메시지 / 템플릿 인프라를 미리 만든다 ( lazy 프로필에서 첫 요청 지연을 줄인다 )
+    private boolean warmUp = false;
+
+    // /startup/timeline 등록 여부 ( 빈 이름, 내부 구성이 보이므로 기본은 꺼 둔다. 인증이 없으니 운영에서는 켜지 말 것 )
+    private boolean timelineEnabled = false;
+}
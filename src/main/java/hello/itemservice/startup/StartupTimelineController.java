@@ -0,0 +1,84 @@
+package hello.itemservice.startup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 기동 단계 타임라인 조회 ( item.startup.timeline-enabled=true 일 때만 등록 )
+ * - ItemServiceApplication.main 이 BufferingApplicationStartup 으로 기록한 단계 ( 빈 생성, 컨텍스트 단계 ) 를 보여준다
+ *   버퍼는 이 설정이 켜져 있을 때만 만든다 ( 설정을 읽기 전의 첫 단계 몇 개는 기록되지 않는다 )
+ *   테스트처럼 main 을 거치지 않고 띄우면 기록이 없다 ( recording=false )
+ * - sort=duration : 오래 걸린 단계부터 ( 기본 ), sort=start : 시작 순서대로
+ * - 기동 뒤 lazy 로 만들어진 빈과 warm-up 도 기록 한도까지 함께 나온다
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "item.startup", name = "timeline-enabled", havingValue = "true")
+public class StartupTimelineController {
+
+    private final ApplicationStartup applicationStartup;
+    private final StartupTracker startupTracker;
+
+    @GetMapping("/startup/timeline")
+    public Map<String, Object> timeline(
+            @RequestParam(defaultValue = "duration") String sort,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("readyMillis", startupTracker.getReadyMillis());
+        result.put("firstResponseMillis", startupTracker.getFirstResponseMillis());
+        result.put("warmUpMillis", startupTracker.getWarmUpMillis());
+
+        if (!(applicationStartup instanceof BufferingApplicationStartup)) {
+            result.put("recording", false);
+            result.put("steps", List.of());
+            return result;
+        }
+
+        StartupTimeline timeline = ((BufferingApplicationStartup) applicationStartup).getBufferedTimeline();
+        Comparator<StartupTimeline.TimelineEvent> order = "start".equals(sort)
+                ? Comparator.comparing(StartupTimeline.TimelineEvent::getStartTime)
+                : Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed();
+
+        result.put("recording", true);
+        result.put("stepCount", timeline.getEvents().size());
+        result.put("steps", timeline.getEvents().stream()
+                .sorted(order)
+                .limit(Math.max(0, limit))
+                .map(event -> step(timeline, event))
+                .collect(Collectors.toList()));
+        return result;
+    }
+
+    private Map<String, Object> step(StartupTimeline timeline, StartupTimeline.TimelineEvent event) {
+        StartupStep step = event.getStartupStep();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", step.getName());
+        result.put("id", step.getId());
+        result.put("parentId", step.getParentId());
+        result.put("startMillis", Duration.between(timeline.getStartTime(), event.getStartTime()).toMillis());
+        result.put("durationMillis", event.getDuration().toMillis());
+
+        List<String> tags = new ArrayList<>();
+        for (StartupStep.Tag tag : step.getTags()) {
+            tags.add(tag.getKey() + "=" + tag.getValue());
+        }
+        result.put("tags", tags);
+        return result;
+    }
+}
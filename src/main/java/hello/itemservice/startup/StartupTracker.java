@@ -0,0 +1,117 @@
+package hello.itemservice.startup;
+
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+import javax.validation.Validator;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기동 시간 측정과 미리 준비 ( warm-up )
+ * - JVM 시작 -> 기동 완료 ( ApplicationReadyEvent ) -> 첫 응답 까지 걸린 시간을 기록한다
+ * - item.startup.warm-up=true 이면 기동 완료 뒤 백그라운드 스레드에서 지연 초기화된 인프라를 미리 만든다
+ *   ( Bean Validation 메타데이터, 메시지 번들, Thymeleaf 엔진 / 뷰 리졸버 )
+ *   -> 기동 완료는 늦추지 않고 첫 요청이 초기화 비용을 떠안지 않게 한다
+ * - lazy 프로필에서도 이벤트를 놓치지 않도록 항상 바로 만든다 ( @Lazy(false) )
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class StartupTracker {
+
+    private final StartupProperties properties;
+    private final ApplicationStartup applicationStartup;
+    private final ObjectProvider<Validator> validator;
+    private final ObjectProvider<MessageSource> messageSource;
+    private final ObjectProvider<TemplateEngine> templateEngine;
+    private final ObjectProvider<ThymeleafViewResolver> viewResolver;
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private volatile long readyMillis = -1;
+    private volatile long warmUpMillis = -1;
+    private final AtomicLong firstResponseMillis = new AtomicLong(-1);
+
+    public StartupTracker(StartupProperties properties,
+                          ApplicationStartup applicationStartup,
+                          ObjectProvider<Validator> validator,
+                          ObjectProvider<MessageSource> messageSource,
+                          ObjectProvider<TemplateEngine> templateEngine,
+                          ObjectProvider<ThymeleafViewResolver> viewResolver) {
+        this.properties = properties;
+        this.applicationStartup = applicationStartup;
+        this.validator = validator;
+        this.messageSource = messageSource;
+        this.templateEngine = templateEngine;
+        this.viewResolver = viewResolver;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        readyMillis = sinceJvmStart();
+        log.info("기동 완료 - {}ms", readyMillis);
+
+        if (properties.isWarmUp()) {
+            Thread thread = new Thread(this::warmUp, "startup-warm-up");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    // 첫 요청만 기록 ( 이후 요청은 값 비교 한 번 )
+    @EventListener(ServletRequestHandledEvent.class)
+    public void onRequestHandled() {
+        if (firstResponseMillis.get() < 0 && firstResponseMillis.compareAndSet(-1, sinceJvmStart())) {
+            log.info("첫 응답 - {}ms", firstResponseMillis.get());
+        }
+    }
+
+    public long getReadyMillis() {
+        return readyMillis;
+    }
+
+    public long getFirstResponseMillis() {
+        return firstResponseMillis.get();
+    }
+
+    public long getWarmUpMillis() {
+        return warmUpMillis;
+    }
+
+    void warmUp() {
+        long start = System.nanoTime();
+        StartupStep step = applicationStartup.start("item.warm-up");
+        try {
+            validator.ifAvailable(v -> v.validate(new ItemSaveForm()));
+            messageSource.ifAvailable(source -> source.getMessage("NotBlank", null, "", Locale.getDefault()));
+            templateEngine.ifAvailable(TemplateEngine::getConfiguration);
+            ThymeleafViewResolver resolver = viewResolver.getIfAvailable();
+            if (resolver != null) {
+                resolver.resolveViewName("validation/v4/items", Locale.getDefault());
+            }
+        } catch (Exception e) {
+            // 미리 준비하지 못해도 첫 요청에서 만들어지므로 기록만 한다
+            log.warn("warm-up 실패", e);
+        } finally {
+            step.end();
+            warmUpMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("warm-up 완료 - {}ms", warmUpMillis);
+        }
+    }
+
+    private long sinceJvmStart() {
+        return System.currentTimeMillis() - jvmStartMillis;
+    }
+}
@@ -0,0 +1,52 @@
+package hello.itemservice.web;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 정적 리소스의 Cache-Control
+ * - 내용 해시가 붙은 URL ( /css/bootstrap.min-{hash}.css ) 만 1년 public 캐시 ( 내용이 바뀌면 URL 이 바뀐다 )
+ * - 해시가 없는 URL ( /css/bootstrap.min.css ) 은 no-cache ( 매번 Last-Modified 로 재검증 )
+ * - 해시가 현재 내용과 맞는지는 ResourceUrlProvider 가 만드는 URL 과 같은지로 판단한다 ( 이름에 '-' 가 있는 파일도 구분된다 )
+ */
+public class VersionedResourceCacheInterceptor implements HandlerInterceptor {
+
+    // {이름}-{md5}.{확장자}  ( ContentVersionStrategy 가 만드는 형식 )
+    private static final Pattern VERSIONED_PATH = Pattern.compile("^(.*)-[0-9a-f]{32}(\\.[^./]+)$");
+
+    private static final String LONG_LIVED = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+    private final ObjectProvider<ResourceUrlProvider> resourceUrlProvider;
+
+    public VersionedResourceCacheInterceptor(ObjectProvider<ResourceUrlProvider> resourceUrlProvider) {
+        this.resourceUrlProvider = resourceUrlProvider;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String lookupPath = urlPathHelper.getLookupPathForRequest(request);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, isCurrentVersion(lookupPath) ? LONG_LIVED : REVALIDATE);
+        return true;
+    }
+
+    private boolean isCurrentVersion(String lookupPath) {
+        Matcher matcher = VERSIONED_PATH.matcher(lookupPath);
+        if (!matcher.matches()) {
+            return false;
+        }
+        String versionedPath = resourceUrlProvider.getObject().getForLookupPath(matcher.group(1) + matcher.group(2));
+        return lookupPath.equals(versionedPath);
+    }
+}
@@ -0,0 +1,94 @@
+package hello.itemservice.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.web.binding.ItemFormBindingHandlerAdapter;
+import hello.itemservice.web.validation.ItemPayloadFormat;
+import hello.itemservice.web.validation.ItemSaveFormBatchHttpMessageConverter;
+import hello.itemservice.web.validation.ItemSaveFormHttpMessageConverter;
+import hello.itemservice.web.validation.ValidationItemNonBlockingApiServlet;
+import hello.itemservice.web.validation.event.ValidationEventLogger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import javax.validation.Validator;
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // 해시 URL 로 서빙하는 정적 리소스 경로 ( 나머지 정적 리소스, index.html 은 스프링 부트 기본 핸들러가 no-cache 로 서빙 )
+    private static final String[] VERSIONED_RESOURCE_DIRS = {"css", "js"};
+
+    // ResourceUrlProvider 는 이 설정으로 만든 핸들러로 초기화되므로 요청 시점에 꺼낸다
+    private final ObjectProvider<ResourceUrlProvider> resourceUrlProvider;
+
+    public WebConfig(ObjectProvider<ResourceUrlProvider> resourceUrlProvider) {
+        this.resourceUrlProvider = resourceUrlProvider;
+    }
+
+    /**
+     * /css/**, /js/** : 내용 해시 URL + 미리 압축한 .gz 서빙
+     * - 캐시 헤더는 VersionedResourceCacheInterceptor 가 URL 에 맞는 해시가 있을 때만 장기 캐시로 붙인다
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String dir : VERSIONED_RESOURCE_DIRS) {
+            registry.addResourceHandler("/" + dir + "/**")
+                    .addResourceLocations("classpath:/static/" + dir + "/")
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"))
+                    .addTransformer(new CssLinkResourceTransformer());
+        }
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new VersionedResourceCacheInterceptor(resourceUrlProvider))
+                .addPathPatterns("/css/**", "/js/**");
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // ItemSaveForm ( 단건 / 배열 ) 은 범용 Jackson 컨버터보다 먼저 전용 스트리밍 컨버터가 읽도록 맨 앞에 등록
+        // JSON, CBOR, Smile 모두 같은 리더로 읽는다 ( 응답은 스프링 기본 Jackson 컨버터가 형식별로 쓴다 )
+        int index = 0;
+        for (ItemPayloadFormat format : ItemPayloadFormat.values()) {
+            converters.add(index++, new ItemSaveFormHttpMessageConverter(format.getJsonFactory(), format.getMediaTypes()));
+            converters.add(index++, new ItemSaveFormBatchHttpMessageConverter(format.getJsonFactory(), format.getMediaTypes()));
+        }
+    }
+
+    // @ModelAttribute 상품 폼 ( Item, ItemSaveForm, ItemUpdateForm ) 은 setter 를 직접 호출하는 전용 바인더로 바인딩
+    @Bean
+    public WebMvcRegistrations itemFormBindingRegistrations() {
+        return new WebMvcRegistrations() {
+            @Override
+            public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+                return new ItemFormBindingHandlerAdapter();
+            }
+        };
+    }
+
+    // 상품 API 의 논블로킹 버전 - DispatcherServlet 을 거치지 않는 별도 비동기 서블릿으로 등록
+    @Bean
+    public ServletRegistrationBean<ValidationItemNonBlockingApiServlet> nonBlockingItemApiServlet(
+            Validator validator, ObjectMapper objectMapper, ValidationEventLogger validationEventLogger) {
+        ServletRegistrationBean<ValidationItemNonBlockingApiServlet> registration = new ServletRegistrationBean<>(
+                new ValidationItemNonBlockingApiServlet(validator, objectMapper, validationEventLogger), "/validation/api/non-blocking/items/add");
+        registration.setAsyncSupported(true);
+        return registration;
+    }
+}
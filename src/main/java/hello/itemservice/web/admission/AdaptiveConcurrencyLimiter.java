@@ -0,0 +1,75 @@
+package hello.itemservice.web.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 측정된 지연시간에 맞춰 동시 처리 한도를 조절하는 리미터 ( AIMD )
+ * - 처리 시간이 목표 지연시간 이하이면 한도만큼 성공할 때마다 한도를 1 늘린다 ( 가산 증가 )
+ * - 목표 지연시간을 넘으면 한도를 10% 줄인다 ( 승산 감소 ), 같은 구간에서 연속으로 줄이지 않도록 목표 지연시간에 한 번만 줄인다
+ * - 모든 상태는 Atomic 변수로 관리하며 락을 사용하지 않는다
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger successesSinceIncrease = new AtomicInteger();
+    private final AtomicLong lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(int minLimit, int initialLimit, int maxLimit, long targetLatencyNanos, long nowNanos) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("1 <= minLimit <= initialLimit <= maxLimit 이어야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.limit = new AtomicInteger(initialLimit);
+        this.lastDecreaseNanos = new AtomicLong(nowNanos - targetLatencyNanos);
+    }
+
+    /**
+     * 동시 처리 한도 안이면 슬롯 하나를 차지한다. 성공한 경우 반드시 release() 를 호출해야 한다
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, long nowNanos) {
+        inFlight.decrementAndGet();
+
+        if (latencyNanos > targetLatencyNanos) {
+            long last = lastDecreaseNanos.get();
+            if (nowNanos - last >= targetLatencyNanos && lastDecreaseNanos.compareAndSet(last, nowNanos)) {
+                limit.updateAndGet(current -> Math.max(minLimit, (int) (current * 0.9)));
+                successesSinceIncrease.set(0);
+            }
+            return;
+        }
+
+        int current = limit.get();
+        if (current < maxLimit && successesSinceIncrease.incrementAndGet() >= current) {
+            successesSinceIncrease.set(0);
+            limit.compareAndSet(current, current + 1);
+        }
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,192 @@
+package hello.itemservice.web.admission;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 등록/수정 요청의 수락 제어
+ * - 바인딩, 검증, 저장보다 먼저 실행되는 필터에서 처리한다
+ * - 대상은 "메서드 경로패턴" 목록 ( AdmissionControlProperties.endpoints, POST 등록/수정과 PATCH 부분 수정 )
+ * - 클라이언트별 토큰 버킷 -> 전체 토큰 버킷 -> 동시 처리 한도 순서로 확인하고,
+ *   하나라도 넘으면 바로 429 Too Many Requests + Retry-After 로 응답한다
+ * - 뒤 단계에서 거절되면 앞 단계에서 받은 토큰은 돌려준다 ( 처리하지 않은 요청으로 클라이언트 한도가 줄지 않게 )
+ * - 요청 하나당 토큰 하나를 받고, 원소 수만큼 비용이 드는 요청 ( 일괄 등록 ) 은 AdmissionTicket 으로 원소를 읽기 전에 하나씩 차감한다
+ * - 처리 시간을 측정해서 AdaptiveConcurrencyLimiter 의 한도를 조절한다
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final AdmissionControlProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final TokenBucket globalBucket;
+    private final ClientBuckets clientBuckets;
+    private final List<Endpoint> endpoints;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    public AdmissionControlFilter(AdmissionControlProperties properties) {
+        this.properties = properties;
+        long now = System.nanoTime();
+        this.globalBucket = new TokenBucket(properties.getGlobalRate(), properties.getGlobalBurst(), now);
+        this.clientBuckets = new ClientBuckets(properties.getMaxClients(),
+                start -> new TokenBucket(properties.getClientRate(), properties.getClientBurst(), start), now);
+        this.endpoints = properties.getEndpoints().stream().map(Endpoint::parse).collect(Collectors.toList());
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+                properties.getMinConcurrency(),
+                properties.getInitialConcurrency(),
+                properties.getMaxConcurrency(),
+                properties.getTargetLatency().toNanos(),
+                now);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        String method = request.getMethod();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.method.equals(method) && pathMatcher.match(endpoint.pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+
+        // 1. 토큰 버킷 ( 클라이언트별 먼저 확인해서, 한 클라이언트가 전체 토큰을 소진하지 않게 한다 )
+        TokenBucket clientBucket = clientBuckets.get(request.getRemoteAddr(), start);
+        long waitNanos = clientBucket.tryAcquire(start);
+        if (waitNanos > 0) {
+            reject(request, response, waitNanos);
+            return;
+        }
+        waitNanos = globalBucket.tryAcquire(start);
+        if (waitNanos > 0) {
+            clientBucket.refund();
+            reject(request, response, waitNanos);
+            return;
+        }
+
+        // 2. 동시 처리 한도
+        if (!concurrencyLimiter.tryAcquire()) {
+            clientBucket.refund();
+            globalBucket.refund();
+            reject(request, response, properties.getTargetLatency().toNanos());
+            return;
+        }
+
+        request.setAttribute(AdmissionTicket.ATTRIBUTE, new AdmissionTicket(clientBucket, globalBucket));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // 비동기 요청은 실제 응답이 끝날 때 슬롯을 반납한다
+                request.getAsyncContext().addListener(new ReleaseListener(start));
+            } else {
+                release(start);
+            }
+        }
+    }
+
+    private void release(long start) {
+        long now = System.nanoTime();
+        concurrencyLimiter.release(now - start, now);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) {
+        long retryAfterSeconds = retryAfterSeconds(waitNanos);
+        log.debug("요청 거절 - uri={}, client={}, retryAfter={}s", request.getRequestURI(), request.getRemoteAddr(), retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    }
+
+    // 초 단위로 올림 ( 최소 1초 )
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    int clientCount() {
+        return clientBuckets.size();
+    }
+
+    // "POST /validation/*/items/add" 형식의 대상 하나
+    private static class Endpoint {
+
+        final String method;
+        final String pattern;
+
+        Endpoint(String method, String pattern) {
+            this.method = method;
+            this.pattern = pattern;
+        }
+
+        static Endpoint parse(String endpoint) {
+            String[] parts = endpoint.trim().split("\\s+");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("item.admission.endpoints 는 \"메서드 경로패턴\" 형식이어야 합니다. endpoint=" + endpoint);
+            }
+            return new Endpoint(parts[0].toUpperCase(), parts[1]);
+        }
+    }
+
+    private class ReleaseListener implements AsyncListener {
+
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseListener(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            releaseOnce();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            releaseOnce();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            releaseOnce();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void releaseOnce() {
+            if (released.compareAndSet(false, true)) {
+                release(start);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package hello.itemservice.web.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 상품 등록/수정 요청의 수락 제어 설정 ( item.admission.* )
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "item.admission")
+public class AdmissionControlProperties {
+
+    private boolean enabled = true;
+
+    // 수락 제어 대상 ( "메서드 경로패턴", v1~v4 와 api 의 등록/수정 모두 포함 )
+    private List<String> endpoints = List.of(
+            "POST /validation/*/items/add",
+            "POST /validation/*/items/*/edit",
+            "POST /validation/api/non-blocking/items/add",
+            "POST /validation/api/items/batch",
+            "PATCH /validation/api/items/*");
+
+    // 전체 토큰 버킷
+    private double globalRate = 200;
+    private int globalBurst = 400;
+
+    // 클라이언트(IP)별 토큰 버킷
+    private double clientRate = 20;
+    private int clientBurst = 40;
+    // 클라이언트별 버킷을 보관하는 최대 개수 ( 넘으면 가득 찬 버킷을 지우고, 그래도 자리가 없으면 새 클라이언트는 공용 버킷 하나를 함께 쓴다 )
+    private int maxClients = 10_000;
+
+    // 동시 처리 한도
+    private int minConcurrency = 4;
+    private int initialConcurrency = 16;
+    private int maxConcurrency = 64;
+    private Duration targetLatency = Duration.ofMillis(200);
+}
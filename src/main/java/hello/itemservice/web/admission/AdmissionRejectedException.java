@@ -0,0 +1,30 @@
+package hello.itemservice.web.admission;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 요청을 처리하는 도중 AdmissionTicket 의 토큰이 모자라서 멈춤
+ * - 필터의 거절과 같은 429 Too Many Requests + Retry-After 로 응답된다 ( ResponseStatusExceptionResolver )
+ */
+public class AdmissionRejectedException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(long waitNanos) {
+        super(HttpStatus.TOO_MANY_REQUESTS, "수락 제어 토큰이 모자랍니다.");
+        this.retryAfterSeconds = AdmissionControlFilter.retryAfterSeconds(waitNanos);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getResponseHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+}
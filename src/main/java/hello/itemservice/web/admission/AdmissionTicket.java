@@ -0,0 +1,37 @@
+package hello.itemservice.web.admission;
+
+import javax.servlet.ServletRequest;
+
+/**
+ * 수락된 요청의 추가 비용 차감
+ * - AdmissionControlFilter 는 바디를 읽기 전에 요청 하나당 토큰 하나만 받는다
+ * - 일괄 등록처럼 원소 수만큼 일이 늘어나는 요청은 원소를 읽기 전에 tryCharge() 로 하나씩 차감한다
+ *   토큰이 모자라면 나머지를 읽지 않고 AdmissionRejectedException ( 429 ) 으로 멈춘다. 이미 읽은 원소의 토큰은 돌려주지 않는다
+ */
+public class AdmissionTicket {
+
+    static final String ATTRIBUTE = AdmissionTicket.class.getName();
+
+    private final TokenBucket clientBucket;
+    private final TokenBucket globalBucket;
+
+    AdmissionTicket(TokenBucket clientBucket, TokenBucket globalBucket) {
+        this.clientBucket = clientBucket;
+        this.globalBucket = globalBucket;
+    }
+
+    /**
+     * 요청에 붙은 티켓에서 permits 개를 더 차감한다 ( 수락 제어 대상이 아니거나 꺼져 있으면 아무것도 하지 않는다 )
+     * @return 0 이면 계속 처리한다. 0 보다 크면 토큰이 모자라므로 처리를 멈추고, 그 나노초 뒤에 다시 시도하라고 응답한다
+     */
+    public static long tryCharge(ServletRequest request, int permits) {
+        Object ticket = request.getAttribute(ATTRIBUTE);
+        if (!(ticket instanceof AdmissionTicket) || permits <= 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long clientWaitNanos = ((AdmissionTicket) ticket).clientBucket.charge(now, permits);
+        long globalWaitNanos = ((AdmissionTicket) ticket).globalBucket.charge(now, permits);
+        return Math.max(clientWaitNanos, globalWaitNanos);
+    }
+}
@@ -0,0 +1,64 @@
+package hello.itemservice.web.admission;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * 클라이언트(IP)별 토큰 버킷 보관소 ( 대략 최대 maxClients 개 )
+ * - ConcurrentHashMap 에 락 없는 TokenBucket 을 보관한다 -> 이미 있는 클라이언트의 조회는 잠금이 없다
+ * - 가득 차면 가득 찬 ( idle ) 버킷만 지운다. 새로 만든 버킷과 차이가 없으므로 지워도 잊는 것이 없고,
+ *   토큰을 쓰고 있는 클라이언트는 지워지지 않아서 다시 가득 찬 버킷을 받는 일이 없다
+ * - 정리는 전체를 훑으므로 SWEEP_INTERVAL 마다 한 스레드만 한다
+ * - 정리 후에도 자리가 없으면 새 클라이언트는 공용 버킷 ( overflowBucket ) 하나를 함께 쓴다
+ *   -> 주소를 바꿔 가며 보내는 요청도 결국 하나의 클라이언트 버킷으로 제한된다
+ * - 크기 확인과 추가 사이에 동시에 들어온 새 클라이언트 수만큼은 maxClients 를 넘을 수 있다
+ */
+class ClientBuckets {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final int maxClients;
+    private final LongFunction<TokenBucket> bucketFactory;
+    private final TokenBucket overflowBucket;
+    private final AtomicLong nextSweepNanos;
+
+    ClientBuckets(int maxClients, LongFunction<TokenBucket> bucketFactory, long nowNanos) {
+        if (maxClients < 1) {
+            throw new IllegalArgumentException("maxClients 는 1 이상이어야 합니다. maxClients=" + maxClients);
+        }
+        this.maxClients = maxClients;
+        this.bucketFactory = bucketFactory;
+        this.overflowBucket = bucketFactory.apply(nowNanos);
+        this.nextSweepNanos = new AtomicLong(nowNanos);
+    }
+
+    TokenBucket get(String client, long nowNanos) {
+        TokenBucket bucket = buckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients) {
+            sweep(nowNanos);
+            if (buckets.size() >= maxClients) {
+                return overflowBucket;
+            }
+        }
+        return buckets.computeIfAbsent(client, key -> bucketFactory.apply(nowNanos));
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    // 가득 찬 버킷을 지운다 ( 확인과 삭제 사이에 쓰인 토큰 하나 정도는 잊을 수 있다 )
+    private void sweep(long nowNanos) {
+        long next = nextSweepNanos.get();
+        if (nowNanos - next < 0 || !nextSweepNanos.compareAndSet(next, nowNanos + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.isIdle(nowNanos));
+    }
+}
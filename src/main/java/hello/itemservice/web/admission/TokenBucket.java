@@ -0,0 +1,75 @@
+package hello.itemservice.web.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷
+ * - GCRA ( Generic Cell Rate Algorithm ) 방식 : 토큰 개수 대신 "다음 토큰이 생기는 이론적 시각" 하나만 AtomicLong 으로 관리한다
+ * - 초당 rate 개씩 채워지고, 최대 burst 개까지 한 번에 쓸 수 있는 토큰 버킷과 동일하게 동작한다
+ * - 획득 실패시 다시 시도할 수 있을 때까지 남은 시간을 돌려준다
+ */
+public class TokenBucket {
+
+    // 토큰 하나가 채워지는 간격
+    private final long emissionIntervalNanos;
+    // 버스트 허용 구간 ( burst 개를 한 번에 쓸 수 있는 만큼 )
+    private final long toleranceNanos;
+    // 이론적 도착 시각 ( Theoretical Arrival Time )
+    private final AtomicLong tat;
+
+    public TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate 와 burst 는 0 보다 커야 합니다. rate=" + ratePerSecond + ", burst=" + burst);
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+        this.toleranceNanos = emissionIntervalNanos * burst;
+        this.tat = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나를 획득한다
+     * @return 0 이면 성공, 0 보다 크면 실패이며 그 값은 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = tat.get();
+            long newTat = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long waitNanos = newTat - nowNanos - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (tat.compareAndSet(current, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 이미 수락한 요청의 추가 비용으로 토큰 permits 개를 차감한다 ( 실패하지 않는다 )
+     * - 토큰이 모자라면 이론적 도착 시각이 그만큼 뒤로 밀려서 다음 tryAcquire 가 모자란 만큼 기다린다
+     * @return 0 보다 크면 모자란 채로 차감했다는 뜻이며 그 값은 토큰이 다시 생길 때까지 남은 나노초
+     */
+    public long charge(long nowNanos, int permits) {
+        if (permits <= 0) {
+            return 0;
+        }
+        long costNanos = emissionIntervalNanos * permits;
+        long newTat = tat.accumulateAndGet(nowNanos, (current, now) -> Math.max(current, now) + costNanos);
+        return Math.max(0, newTat - nowNanos - toleranceNanos);
+    }
+
+    /**
+     * tryAcquire 로 받은 토큰 하나를 돌려준다 ( 다음 단계에서 거절되어 실제로 처리하지 않은 요청 )
+     */
+    public void refund() {
+        tat.addAndGet(-emissionIntervalNanos);
+    }
+
+    /**
+     * 버킷이 가득 찬 상태인지 ( 오래 사용되지 않아 새로 만든 버킷과 차이가 없어서, ClientBuckets 가 지워도 되는지 )
+     */
+    public boolean isIdle(long nowNanos) {
+        return tat.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,15 @@
+package hello.itemservice.web.binding;
+
+import org.springframework.validation.Validator;
+
+import java.util.List;
+
+/**
+ * 상품 폼 바인더에 붙일 Validator 를 정하는 컨트롤러
+ * - @InitBinder 메서드 대신 구현한다 ( 컨트롤러마다 처음 한 번만 호출하고, 요청마다 리플렉션으로 호출하지 않는다 )
+ * - 바인딩 대상 클래스를 지원하는 Validator 만 붙는다
+ */
+public interface ItemBinderValidators {
+
+    List<Validator> itemBinderValidators();
+}
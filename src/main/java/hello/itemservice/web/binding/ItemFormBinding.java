@@ -0,0 +1,121 @@
+package hello.itemservice.web.binding;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.StringUtils;
+
+import java.beans.PropertyChangeEvent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 상품 폼 클래스의 필드 바인딩 표 ( 요청 파라미터 이름 -> setter )
+ * - BeanWrapper 의 리플렉션 / 프로퍼티 경로 해석 없이 setter 를 직접 호출한다
+ * - 표에 있는 필드만 바인딩한다 ( 바인딩 허용 필드 목록을 겸한다 )
+ * - 변환 규칙은 스프링 기본 변환 ( StringToNumberConverterFactory ) 과 같다
+ *   - 숫자 : 앞뒤 공백 제거, 빈 문자열은 null, 변환 실패는 TypeMismatchException ( typeMismatch 메시지 코드 )
+ *   - 값이 여러 개 : 문자열은 콤마로 이어 붙이고, 숫자는 첫 번째 값을 쓴다
+ */
+public final class ItemFormBinding<T> {
+
+    private static final Map<Class<?>, ItemFormBinding<?>> BINDINGS = Map.of(
+            Item.class, new ItemFormBinding<>(Item.class)
+                    .longValue("id", Item::setId)
+                    .text("itemName", Item::setItemName)
+                    .integer("price", Item::setPrice)
+                    .integer("quantity", Item::setQuantity)
+                    .text("email", Item::setEmail),
+            ItemSaveForm.class, new ItemFormBinding<>(ItemSaveForm.class)
+                    .text("itemName", ItemSaveForm::setItemName)
+                    .integer("price", ItemSaveForm::setPrice)
+                    .integer("quantity", ItemSaveForm::setQuantity)
+                    .text("email", ItemSaveForm::setEmail),
+            ItemUpdateForm.class, new ItemFormBinding<>(ItemUpdateForm.class)
+                    .longValue("id", ItemUpdateForm::setId)
+                    .text("itemName", ItemUpdateForm::setItemName)
+                    .integer("price", ItemUpdateForm::setPrice)
+                    .integer("quantity", ItemUpdateForm::setQuantity)
+                    .text("email", ItemUpdateForm::setEmail));
+
+    private final Class<T> type;
+    private final Map<String, BiConsumer<T, Object>> fields = new HashMap<>();
+
+    private ItemFormBinding(Class<T> type) {
+        this.type = type;
+    }
+
+    /**
+     * 바인딩 표가 있는 클래스면 표를, 아니면 null ( 일반 DataBinder 를 쓴다 )
+     */
+    public static ItemFormBinding<?> forType(Class<?> type) {
+        return BINDINGS.get(type);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public boolean contains(String field) {
+        return fields.containsKey(field);
+    }
+
+    /**
+     * 요청 값 ( String 또는 String[] ) 을 필드에 넣는다. 표에 없는 필드면 false
+     *
+     * @throws TypeMismatchException 숫자 필드에 숫자가 아닌 값
+     */
+    public boolean bind(Object target, String field, Object value) {
+        BiConsumer<T, Object> setter = fields.get(field);
+        if (setter == null) {
+            return false;
+        }
+        setter.accept(type.cast(target), value);
+        return true;
+    }
+
+    private ItemFormBinding<T> text(String field, BiConsumer<T, String> setter) {
+        fields.put(field, (target, value) -> setter.accept(target, text(value)));
+        return this;
+    }
+
+    private ItemFormBinding<T> integer(String field, BiConsumer<T, Integer> setter) {
+        fields.put(field, (target, value) -> setter.accept(target, number(target, field, value, Integer.class)));
+        return this;
+    }
+
+    private ItemFormBinding<T> longValue(String field, BiConsumer<T, Long> setter) {
+        fields.put(field, (target, value) -> setter.accept(target, number(target, field, value, Long.class)));
+        return this;
+    }
+
+    private static String text(Object value) {
+        if (value instanceof String[]) {
+            return StringUtils.arrayToCommaDelimitedString((String[]) value);
+        }
+        return (String) value;
+    }
+
+    private static <N extends Number> N number(Object target, String field, Object value, Class<N> numberType) {
+        String source = value instanceof String[] ? first((String[]) value) : (String) value;
+        if (source == null) {
+            return null;
+        }
+        String trimmed = source.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        try {
+            return NumberUtils.parseNumber(trimmed, numberType);
+        } catch (IllegalArgumentException e) {
+            throw new TypeMismatchException(new PropertyChangeEvent(target, field, null, value), numberType, e);
+        }
+    }
+
+    private static String first(String[] values) {
+        return values.length == 0 ? null : values[0];
+    }
+}
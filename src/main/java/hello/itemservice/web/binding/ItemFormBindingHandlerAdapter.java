@@ -0,0 +1,37 @@
+package hello.itemservice.web.binding;
+
+import org.springframework.validation.Validator;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.InvocableHandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 폼 전용 바인더를 쓰는 RequestMappingHandlerAdapter ( WebConfig 에서 WebMvcRegistrations 로 등록 )
+ */
+public class ItemFormBindingHandlerAdapter extends RequestMappingHandlerAdapter {
+
+    // 컨트롤러 클래스별 Validator 목록 ( ItemBinderValidators 는 처음 한 번만 호출, 구현하지 않은 컨트롤러는 빈 목록 )
+    private final Map<Class<?>, List<Validator>> validatorsByController = new ConcurrentHashMap<>();
+
+    @Override
+    protected ServletRequestDataBinderFactory createDataBinderFactory(List<InvocableHandlerMethod> binderMethods) {
+        return new ItemFormDataBinderFactory(binderMethods, getWebBindingInitializer(), this::validatorsFor);
+    }
+
+    private List<Validator> validatorsFor(HandlerMethod handlerMethod) {
+        return validatorsByController.computeIfAbsent(handlerMethod.getBeanType(), type -> {
+            // 매핑 단계의 HandlerMethod 는 빈 이름만 들고 있을 수 있다
+            Object bean = handlerMethod.getBean() instanceof String
+                    ? obtainApplicationContext().getBean((String) handlerMethod.getBean())
+                    : handlerMethod.getBean();
+            return bean instanceof ItemBinderValidators
+                    ? List.copyOf(((ItemBinderValidators) bean).itemBinderValidators())
+                    : List.of();
+        });
+    }
+}
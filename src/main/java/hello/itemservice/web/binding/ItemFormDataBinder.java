@@ -0,0 +1,38 @@
+package hello.itemservice.web.binding;
+
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.web.servlet.mvc.method.annotation.ExtendedServletRequestDataBinder;
+
+/**
+ * 상품 폼 클래스 전용 바인더
+ * - 요청 파라미터 수집 ( URI 변수 포함 ) 과 검증은 ExtendedServletRequestDataBinder 그대로
+ * - 값을 넣는 단계만 ItemFormBinding 의 setter 직접 호출로 바꾼다 ( BeanWrapper 를 만들지 않는다 )
+ * - 타입 오류는 기본 바인더와 같은 BindingErrorProcessor 로 넣으므로 메시지 코드 / 거절값이 같다
+ */
+public class ItemFormDataBinder extends ExtendedServletRequestDataBinder {
+
+    private final ItemFormBinding<?> binding;
+
+    public ItemFormDataBinder(Object target, String objectName, ItemFormBinding<?> binding) {
+        super(target, objectName);
+        this.binding = binding;
+    }
+
+    @Override
+    protected void applyPropertyValues(MutablePropertyValues mpvs) {
+        Object target = getTarget();
+        for (PropertyValue propertyValue : mpvs.getPropertyValueList()) {
+            String field = propertyValue.getName();
+            try {
+                if (!binding.bind(target, field, propertyValue.getValue())) {
+                    // 표에 없는 파라미터 ( 다른 폼 필드, URI 변수 등 ) 는 기본 바인더의 ignoreUnknownFields 처럼 건너뛴다
+                    getInternalBindingResult().recordSuppressedField(field);
+                }
+            } catch (TypeMismatchException e) {
+                getBindingErrorProcessor().processPropertyAccessException(e, getInternalBindingResult());
+            }
+        }
+    }
+}
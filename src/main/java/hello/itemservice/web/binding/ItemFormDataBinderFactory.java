@@ -0,0 +1,57 @@
+package hello.itemservice.web.binding;
+
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.support.WebBindingInitializer;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.InvocableHandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 상품 폼 클래스 ( ItemFormBinding 에 표가 있는 클래스 ) 이면 ItemFormDataBinder 를 만든다
+ * - 그 외 대상 ( @PathVariable 변환 등 ) 은 기본 바인더
+ * - 컨트롤러가 ItemBinderValidators 이면 WebBindingInitializer ( 전역 Bean Validator ) 와 @InitBinder 다음에 Validator 를 더한다
+ */
+class ItemFormDataBinderFactory extends ServletRequestDataBinderFactory {
+
+    private final Function<HandlerMethod, List<Validator>> validatorLookup;
+
+    ItemFormDataBinderFactory(List<InvocableHandlerMethod> binderMethods, WebBindingInitializer initializer,
+                              Function<HandlerMethod, List<Validator>> validatorLookup) {
+        super(binderMethods, initializer);
+        this.validatorLookup = validatorLookup;
+    }
+
+    @Override
+    protected WebDataBinder createBinderInstance(Object target, String objectName, NativeWebRequest request) throws Exception {
+        ItemFormBinding<?> binding = target != null ? ItemFormBinding.forType(target.getClass()) : null;
+        if (binding == null) {
+            return super.createBinderInstance(target, objectName, request);
+        }
+        return new ItemFormDataBinder(target, objectName, binding);
+    }
+
+    @Override
+    public void initBinder(WebDataBinder dataBinder, NativeWebRequest request) throws Exception {
+        super.initBinder(dataBinder, request);
+        if (!(dataBinder instanceof ItemFormDataBinder)) {
+            return;
+        }
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (!(handler instanceof HandlerMethod)) {
+            return;
+        }
+        Class<?> targetType = dataBinder.getTarget().getClass();
+        for (Validator validator : validatorLookup.apply((HandlerMethod) handler)) {
+            if (validator.supports(targetType)) {
+                dataBinder.addValidators(validator);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package hello.itemservice.web.idempotency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 멱등키별 응답 캐시
+ * - ConcurrentHashMap + 등록 순서 큐 : 조회/등록은 키 단위로만 잠근다 ( 전역 락 없음 )
+ * - 크기 제한 + TTL : 등록할 때마다 오래된 항목부터 몇 개씩 정리한다 ( 정리는 한 스레드만, 다른 스레드는 기다리지 않고 건너뛴다 )
+ * - 처리 중인 항목 ( 아직 완료되지 않은 Future ) 은 크기를 넘어도 지우지 않는다
+ *   -> 동시에 들어온 같은 키의 요청은 항상 처음 요청의 처리 결과를 함께 기다린다
+ *   -> 처리 중인 항목 수는 동시 처리 한도 ( 수락 제어 ) 로 제한되므로 그만큼만 일시적으로 넘칠 수 있다
+ * - 항목마다 요청 지문 ( 바디 해시 ) 을 저장해서 같은 키로 다른 요청이 오면 알려준다
+ */
+public class IdempotencyCache<V> {
+
+    // 등록 한 번에 정리하는 최대 항목 수
+    private static final int MAX_CLEANUP_STEPS = 16;
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final ConcurrentHashMap<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    // 등록 순서 ( 먼저 등록한 항목이 먼저 만료된다 )
+    private final ConcurrentLinkedQueue<Entry<V>> order = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock cleanupLock = new ReentrantLock();
+
+    public IdempotencyCache(int maxEntries, long ttlNanos) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+    }
+
+    /**
+     * 키를 선점한다
+     * - 처음 들어온 키(또는 만료된 키)면 새 Future 를 등록하고 owner 로 반환 -> 호출자가 처리 후 complete 해야 한다
+     * - 이미 있는 키면 기존 Future 를 반환 -> 호출자는 지문이 같을 때만 결과를 기다렸다가 그대로 응답한다
+     */
+    public Claim<V> claim(String key, String fingerprint, long nowNanos) {
+        Entry<V> candidate = new Entry<>(key, fingerprint, nowNanos);
+        Entry<V> entry = entries.compute(key,
+                (k, existing) -> existing != null && nowNanos - existing.createdNanos < ttlNanos ? existing : candidate);
+        boolean owner = entry == candidate;
+        if (owner) {
+            order.add(entry);
+            cleanUp(nowNanos);
+        }
+        return new Claim<>(entry.future, owner, entry.fingerprint.equals(fingerprint));
+    }
+
+    /**
+     * 처리에 실패한 키를 지운다 ( 다른 요청이 같은 키로 새로 등록했으면 건드리지 않는다 )
+     */
+    public void remove(String key, CompletableFuture<V> future) {
+        entries.computeIfPresent(key, (k, entry) -> entry.future == future ? null : entry);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void cleanUp(long nowNanos) {
+        if (!cleanupLock.tryLock()) {
+            return;
+        }
+        try {
+            for (int i = 0; i < MAX_CLEANUP_STEPS; i++) {
+                Entry<V> oldest = order.peek();
+                if (oldest == null) {
+                    return;
+                }
+                boolean live = entries.get(oldest.key) == oldest;
+                boolean expired = nowNanos - oldest.createdNanos >= ttlNanos;
+                if (live && !expired && entries.size() <= maxEntries) {
+                    return;
+                }
+                order.poll();
+                if (!live) {
+                    // 실패해서 지웠거나 만료 후 다시 등록된 키
+                    continue;
+                }
+                if (!oldest.future.isDone()) {
+                    // 처리 중인 항목은 지우지 않고 뒤로 보낸다
+                    order.add(oldest);
+                    continue;
+                }
+                entries.remove(oldest.key, oldest);
+            }
+        } finally {
+            cleanupLock.unlock();
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final String key;
+        private final String fingerprint;
+        private final long createdNanos;
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+
+        Entry(String key, String fingerprint, long createdNanos) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.createdNanos = createdNanos;
+        }
+    }
+
+    public static class Claim<V> {
+
+        private final CompletableFuture<V> future;
+        private final boolean owner;
+        private final boolean sameRequest;
+
+        Claim(CompletableFuture<V> future, boolean owner, boolean sameRequest) {
+            this.future = future;
+            this.owner = owner;
+            this.sameRequest = sameRequest;
+        }
+
+        public CompletableFuture<V> getFuture() {
+            return future;
+        }
+
+        public boolean isOwner() {
+            return owner;
+        }
+
+        /**
+         * 처음 요청과 지문 ( 바디 해시 ) 이 같은지
+         */
+        public boolean isSameRequest() {
+            return sameRequest;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package hello.itemservice.web.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 멱등키 ( Idempotency-Key ) 처리
+ * - API 는 Idempotency-Key 헤더, 폼은 idempotencyKey 파라미터 ( addForm.html 의 hidden 필드 ) 로 키를 받는다
+ * - 같은 키의 첫 응답을 저장해 두고, 재요청은 바인딩/검증/저장 없이 저장된 응답을 그대로 돌려준다
+ * - 처리 중에 같은 키가 다시 들어오면 처음 요청이 끝날 때까지 기다렸다가 같은 응답을 돌려준다
+ *   ( 최대 waitTimeout, 동시에 maxWaiters 개까지. 넘으면 409 Conflict )
+ * - 처음 요청이 실패하면 기다리던 요청들이 다시 키를 선점하고, 그중 하나만 처리한다
+ * - 폼이 아닌 바디는 지문을 만들기 위해 미리 읽는다 ( 최대 maxBodySize, 넘으면 413 Payload Too Large )
+ * - 키는 클라이언트 ( 인증 사용자, 없으면 IP ) 와 URI 별로 따로 관리한다 ( 다른 클라이언트의 응답을 받을 수 없다 )
+ * - 같은 키로 다른 요청 ( 바디 / 폼 값이 다름 ) 이 오면 저장된 응답 대신 422 로 거절한다
+ * - 5xx 응답이나 예외는 저장하지 않는다 ( 재시도하면 다시 처리 )
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENCY_KEY_PARAMETER = "idempotencyKey";
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyCache<CachedResponse> cache;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    // 처리 중인 같은 키의 결과를 기다리는 요청 수 제한
+    private final Semaphore waiters;
+
+    public IdempotencyFilter(IdempotencyProperties properties) {
+        this.properties = properties;
+        this.cache = new IdempotencyCache<>(properties.getMaxEntries(), properties.getTtl().toNanos());
+        this.waiters = new Semaphore(properties.getMaxWaiters());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled() || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : properties.getPathPatterns()) {
+            if (pathMatcher.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = idempotencyKey(request);
+        if (idempotencyKey == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 폼이 아니면 바디를 먼저 읽어서 지문을 만들고, 뒤의 처리는 읽어 둔 바디로 한다
+        if (!isForm(request)) {
+            byte[] body = readBody(request);
+            if (body == null) {
+                response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+                return;
+            }
+            request = new CachedBodyRequest(request, body);
+        }
+        String cacheKey = client(request) + " " + request.getRequestURI() + " " + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        while (true) {
+            IdempotencyCache.Claim<CachedResponse> claim = cache.claim(cacheKey, fingerprint, System.nanoTime());
+
+            // 같은 키로 내용이 다른 요청 -> 저장된 응답을 주면 안 된다
+            if (!claim.isOwner() && !claim.isSameRequest()) {
+                log.info("멱등키 재사용 - 요청 내용이 다름, uri={}", request.getRequestURI());
+                response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(), "Idempotency-Key 가 다른 요청에 이미 사용되었습니다.");
+                return;
+            }
+
+            if (claim.isOwner()) {
+                process(cacheKey, claim, request, response, filterChain);
+                return;
+            }
+
+            // 이미 처리했거나 처리 중인 키 -> 결과를 기다렸다가 그대로 응답
+            if (replay(claim, request, response)) {
+                return;
+            }
+            // 처음 요청이 실패해서 키가 지워졌다 -> 다시 선점 ( 기다리던 요청 중 하나만 owner 가 된다 )
+        }
+    }
+
+    private void process(String cacheKey, IdempotencyCache.Claim<CachedResponse> claim, HttpServletRequest request,
+                         HttpServletResponse response, FilterChain filterChain) throws IOException, ServletException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            fail(cacheKey, claim, e);
+            throw e;
+        }
+
+        if (request.isAsyncStarted() || responseWrapper.getStatus() >= 500) {
+            fail(cacheKey, claim, new IllegalStateException("저장할 수 없는 응답입니다. status=" + responseWrapper.getStatus()));
+        } else {
+            claim.getFuture().complete(CachedResponse.of(responseWrapper));
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    /**
+     * 처음 요청의 결과를 기다렸다가 응답한다
+     * @return 응답했으면 true, 처음 요청이 실패해서 다시 선점해야 하면 false
+     */
+    private boolean replay(IdempotencyCache.Claim<CachedResponse> claim, HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        // 이미 끝난 요청의 결과는 기다리지 않으므로 대기 수에 세지 않는다
+        boolean waiting = !claim.getFuture().isDone();
+        if (waiting && !waiters.tryAcquire()) {
+            // 이미 많은 요청이 기다리는 중 -> 스레드를 더 붙잡지 않는다
+            response.setStatus(HttpStatus.CONFLICT.value());
+            return true;
+        }
+        CachedResponse cachedResponse;
+        try {
+            cachedResponse = claim.getFuture().get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 처음 요청이 아직 처리 중
+            response.setStatus(HttpStatus.CONFLICT.value());
+            return true;
+        } catch (ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return true;
+        } finally {
+            if (waiting) {
+                waiters.release();
+            }
+        }
+
+        log.info("멱등키 재요청 - 저장된 응답 반환, uri={}", request.getRequestURI());
+        cachedResponse.writeTo(response);
+        return true;
+    }
+
+    // 바디를 최대 maxBodySize 까지 읽는다 ( 넘으면 null )
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        int maxBodySize = properties.getMaxBodySize();
+        if (request.getContentLengthLong() > maxBodySize) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodySize + 1);
+        return body.length > maxBodySize ? null : body;
+    }
+
+    int waiterCount() {
+        return properties.getMaxWaiters() - waiters.availablePermits();
+    }
+
+    private void fail(String cacheKey, IdempotencyCache.Claim<CachedResponse> claim, Exception e) {
+        cache.remove(cacheKey, claim.getFuture());
+        claim.getFuture().completeExceptionally(e);
+    }
+
+    private static boolean isForm(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && (contentType.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                || contentType.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE));
+    }
+
+    // 인증 사용자가 있으면 사용자, 없으면 클라이언트 IP
+    private static String client(HttpServletRequest request) {
+        String user = request.getRemoteUser();
+        return user != null ? "user:" + user : "addr:" + request.getRemoteAddr();
+    }
+
+    /**
+     * 요청 내용의 지문 ( SHA-256 )
+     * - 폼 : 멱등키를 뺀 파라미터를 이름순으로
+     * - 그 외 : 바디 바이트
+     */
+    private static String fingerprint(HttpServletRequest request) {
+        MessageDigest digest = sha256();
+        if (request instanceof CachedBodyRequest) {
+            digest.update(((CachedBodyRequest) request).body);
+        } else {
+            new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+                if (IDEMPOTENCY_KEY_PARAMETER.equals(name)) {
+                    return;
+                }
+                digest.update(name.getBytes(StandardCharsets.UTF_8));
+                for (String value : values) {
+                    digest.update((byte) 0);
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) '\n');
+            });
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String idempotencyKey(HttpServletRequest request) {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (!StringUtils.hasText(key)) {
+            key = request.getParameter(IDEMPOTENCY_KEY_PARAMETER);
+        }
+        return StringUtils.hasText(key) ? key : null;
+    }
+
+    /**
+     * 미리 읽어 둔 바디를 다시 읽을 수 있게 하는 요청 ( 지문 계산 후 컨트롤러가 같은 바디를 읽는다 )
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 바디가 이미 메모리에 있으므로 바로 읽을 수 있다고 알린다
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws UnsupportedEncodingException {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+
+    /**
+     * 저장된 응답 ( 상태코드, 헤더, 바디 )
+     */
+    static class CachedResponse {
+
+        private final int status;
+        private final String contentType;
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+
+        private CachedResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        static CachedResponse of(ContentCachingResponseWrapper response) {
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : response.getHeaderNames()) {
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+                    headers.put(name, new ArrayList<>(response.getHeaders(name)));
+                }
+            }
+            return new CachedResponse(response.getStatus(), response.getContentType(), headers, response.getContentAsByteArray());
+        }
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package hello.itemservice.web.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 멱등키 설정 ( item.idempotency.* )
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "item.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    // 멱등키를 적용할 POST 요청
+    private List<String> pathPatterns = List.of(
+            "/validation/api/items/add",
+            "/validation/v4/items/add");
+
+    // 저장할 최대 응답 수, 보관 시간
+    private int maxEntries = 10_000;
+    private Duration ttl = Duration.ofMinutes(10);
+
+    // 지문을 만들기 위해 미리 읽는 요청 바디의 최대 크기 ( 넘으면 413 )
+    private int maxBodySize = 64 * 1024;
+
+    // 같은 키로 처리 중인 요청을 기다리는 최대 시간, 동시에 기다릴 수 있는 최대 요청 수 ( 넘으면 바로 409 )
+    // 기다리는 동안 요청 스레드를 붙잡으므로 짧게 두고, 기다리는 요청 수로 붙잡히는 스레드 수를 제한한다
+    private Duration waitTimeout = Duration.ofSeconds(2);
+    private int maxWaiters = 64;
+}
@@ -0,0 +1,40 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+
+/**
+ * 상품 API 요청 바디 형식
+ * - 모두 Jackson 스트리밍 포맷이라 같은 ItemSaveFormReader 로 읽는다 ( JsonFactory 만 다르다 )
+ * - CBOR, Smile 은 필드 이름 / 숫자를 바이너리로 보내서 JSON 보다 작고 파싱이 빠르다 ( 서비스 간 호출용 )
+ * - 응답은 스프링 MVC 기본 Jackson 컨버터 ( JSON / CBOR / Smile ) 가 Accept 에 맞춰 쓴다
+ */
+public enum ItemPayloadFormat {
+
+    JSON(new JsonFactory(), MediaType.APPLICATION_JSON, new MediaType("application", "*+json")),
+    CBOR(new CBORFactory(), MediaType.APPLICATION_CBOR),
+    SMILE(new SmileFactory(), new MediaType("application", "x-jackson-smile"));
+
+    // JsonFactory 는 스레드 안전하므로 하나를 같이 쓴다
+    private final JsonFactory jsonFactory;
+    private final MediaType[] mediaTypes;
+
+    ItemPayloadFormat(JsonFactory jsonFactory, MediaType... mediaTypes) {
+        this.jsonFactory = jsonFactory;
+        this.mediaTypes = mediaTypes;
+    }
+
+    public JsonFactory getJsonFactory() {
+        return jsonFactory;
+    }
+
+    public MediaType getMediaType() {
+        return mediaTypes[0];
+    }
+
+    public MediaType[] getMediaTypes() {
+        return mediaTypes.clone();
+    }
+}
@@ -0,0 +1,69 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import hello.itemservice.web.admission.AdmissionRejectedException;
+import hello.itemservice.web.admission.AdmissionTicket;
+import hello.itemservice.web.validation.form.ItemSaveFormBatch;
+import hello.itemservice.web.validation.form.ItemSaveFormReader;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.ServletRequest;
+import java.io.IOException;
+
+/**
+ * @RequestBody ItemSaveFormBatch 전용 HttpMessageConverter ( 읽기 전용 )
+ * - ItemSaveForm 배열을 ItemSaveFormReader 로 스트리밍 파싱한다
+ * - 타입 오류는 원소별로 ItemSaveFormReader.Result 에 남는다 ( 컨트롤러가 원소마다 BindingResult 에 넣는다 )
+ * - 수락 제어 토큰은 원소를 읽기 전에 하나씩 차감한다 ( 첫 원소는 필터가 받은 토큰 )
+ *   모자라면 나머지를 읽지 않고 429 로 멈춘다 -> 토큰 하나로 최대 원소 수만큼 파싱시킬 수 없다
+ */
+public class ItemSaveFormBatchHttpMessageConverter extends ReadOnlyHttpMessageConverter<ItemSaveFormBatch> {
+
+    // 한 요청에 담을 수 있는 최대 상품 수
+    public static final int MAX_ITEMS = 1000;
+
+    private final ItemSaveFormReader reader;
+
+    public ItemSaveFormBatchHttpMessageConverter(JsonFactory jsonFactory, MediaType... supportedMediaTypes) {
+        super(supportedMediaTypes);
+        this.reader = new ItemSaveFormReader(jsonFactory);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ItemSaveFormBatch.class == clazz;
+    }
+
+    @Override
+    protected ItemSaveFormBatch readInternal(Class<? extends ItemSaveFormBatch> clazz, HttpInputMessage inputMessage) throws IOException {
+        ServletRequest request = currentRequest();
+        try {
+            return new ItemSaveFormBatch(reader.readAll(inputMessage.getBody(), MAX_ITEMS, index -> charge(request, index)));
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("Parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    private static void charge(ServletRequest request, int index) {
+        if (request == null || index == 0) {
+            return;
+        }
+        long waitNanos = AdmissionTicket.tryCharge(request, 1);
+        if (waitNanos > 0) {
+            throw new AdmissionRejectedException(waitNanos);
+        }
+    }
+
+    private static ServletRequest currentRequest() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return requestAttributes instanceof ServletRequestAttributes
+                ? ((ServletRequestAttributes) requestAttributes).getRequest()
+                : null;
+    }
+}
@@ -0,0 +1,39 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormReader;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingErrorProcessor;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.DefaultBindingErrorProcessor;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validator;
+
+/**
+ * 일괄 등록의 원소 하나 검증
+ * - @RequestBody + @Validated 와 같은 순서 : 타입 오류 -> Bean Validation
+ * - 오류 객체 이름은 단건 등록과 같은 itemSaveForm ( 메시지 코드가 같다 )
+ */
+@Component
+public class ItemSaveFormBatchValidator {
+
+    private final BindingErrorProcessor bindingErrorProcessor = new DefaultBindingErrorProcessor();
+    private final SpringValidatorAdapter validator;
+
+    public ItemSaveFormBatchValidator(Validator validator) {
+        this.validator = new SpringValidatorAdapter(validator);
+    }
+
+    public BindingResult validate(ItemSaveFormReader.Result entry) {
+        ItemSaveForm itemSaveForm = entry.getForm();
+        BindingResult bindingResult = new BeanPropertyBindingResult(itemSaveForm, "itemSaveForm");
+        for (TypeMismatchException typeMismatch : entry.getTypeMismatches()) {
+            bindingErrorProcessor.processPropertyAccessException(typeMismatch, bindingResult);
+        }
+        validator.validate(itemSaveForm, bindingResult);
+        return bindingResult;
+    }
+}
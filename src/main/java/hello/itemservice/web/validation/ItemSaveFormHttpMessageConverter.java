@@ -0,0 +1,84 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import hello.itemservice.web.validation.form.ItemPatchForm;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormReader;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * @RequestBody ItemSaveForm / ItemPatchForm 전용 HttpMessageConverter ( 읽기 전용 )
+ * - ItemSaveFormReader 로 요청 바디를 스트리밍 파싱한다 ( 두 폼의 필드가 같으므로 ItemPatchForm 은 읽은 값과 보낸 필드를 옮겨 담는다 )
+ * - 타입 오류는 요청 속성에 보관해 두었다가 @InitBinder 에서 applyTypeMismatches() 로 BindingResult 에 넣는다
+ *   ( HttpMessageConverter 는 BindingResult 에 접근할 수 없기 때문 )
+ */
+public class ItemSaveFormHttpMessageConverter extends ReadOnlyHttpMessageConverter<Object> {
+
+    private static final String TYPE_MISMATCHES_ATTRIBUTE = ItemSaveFormHttpMessageConverter.class.getName() + ".TYPE_MISMATCHES";
+
+    private final ItemSaveFormReader reader;
+
+    public ItemSaveFormHttpMessageConverter() {
+        this(new JsonFactory(), MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    public ItemSaveFormHttpMessageConverter(JsonFactory jsonFactory, MediaType... supportedMediaTypes) {
+        super(supportedMediaTypes);
+        this.reader = new ItemSaveFormReader(jsonFactory);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ItemSaveForm.class == clazz || ItemPatchForm.class == clazz;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        ItemSaveFormReader.Result result;
+        try {
+            result = reader.read(inputMessage.getBody());
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+
+        if (result.hasTypeMismatches()) {
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            if (requestAttributes != null) {
+                requestAttributes.setAttribute(TYPE_MISMATCHES_ATTRIBUTE, result.getTypeMismatches(), RequestAttributes.SCOPE_REQUEST);
+            }
+        }
+        return clazz == ItemPatchForm.class ? ItemPatchForm.from(result) : result.getForm();
+    }
+
+    /**
+     * 컨버터가 보관한 타입 오류를 @RequestBody 대상 바인더의 BindingResult 에 추가한다
+     * - @ModelAttribute 바인딩과 같은 BindingErrorProcessor 를 사용하므로 typeMismatch 메시지 코드가 동일하게 만들어진다
+     * - 바인딩 실패로 기록된 필드는 Bean Validation 이 다시 오류를 추가하지 않는다
+     */
+    @SuppressWarnings("unchecked")
+    public static void applyTypeMismatches(WebDataBinder webDataBinder, WebRequest webRequest) {
+        List<TypeMismatchException> typeMismatches =
+                (List<TypeMismatchException>) webRequest.getAttribute(TYPE_MISMATCHES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (typeMismatches == null || webDataBinder.getTarget() == null) {
+            return;
+        }
+
+        BindingResult bindingResult = webDataBinder.getBindingResult();
+        for (TypeMismatchException typeMismatch : typeMismatches) {
+            webDataBinder.getBindingErrorProcessor().processPropertyAccessException(typeMismatch, bindingResult);
+        }
+        webRequest.removeAttribute(TYPE_MISMATCHES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,41 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.CatalogStatistics;
+import hello.itemservice.domain.item.store.ItemStore;
+import hello.itemservice.web.validation.async.AsyncValidationStage;
+import hello.itemservice.web.validation.event.ValidationEventLogger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 저장소 지표 조회 API
+ * - catalog : 상품 집계 ( 저장/수정마다 갱신되므로 전체 조회 없이 바로 응답 )
+ * - store : 저장 공간 지표 ( tiered 이면 hot 적중률, 디스크로 내린 수 등 )
+ * - validationEvents : 검증 실패 로그 기록/버림 수
+ * - asyncValidation : 비동기 검증 규칙 실행/시간 초과/실패 수
+ */
+@RestController
+@RequestMapping("/validation/api/items")
+@RequiredArgsConstructor
+public class ItemStatsApiController {
+
+    private final CatalogStatistics catalogStatistics;
+    private final ItemStore itemStore;
+    private final ValidationEventLogger validationEventLogger;
+    private final AsyncValidationStage asyncValidationStage;
+
+    @GetMapping("/stats")
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("catalog", catalogStatistics.summary());
+        stats.put("store", itemStore.stats());
+        stats.put("validationEvents", validationEventLogger.stats());
+        stats.put("asyncValidation", asyncValidationStage.stats());
+        return stats;
+    }
+}
@@ -1,12 +1,12 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
+import hello.itemservice.web.validation.constraint.EmailMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.Errors;
 import org.springframework.validation.Validator;
 
-import java.util.regex.Pattern;
 
 @Component
 public class ItemValidator implements Validator {
@@ -45,7 +45,7 @@ public class ItemValidator implements Validator {
         if (!StringUtils.hasText(email)) {
             errors.rejectValue("email", "required");
         } else {
-            if (!Pattern.matches("^[0-9a-zA-Z]([-_.]?[0-9a-zA-Z])*@[0-9a-zA-Z]([-_.]?[0-9a-zA-Z])*.[a-zA-Z]{2,3}$", email)) {
+            if (!EmailMatcher.matches(email)) {
                 errors.rejectValue("email", "incorrect");
             }
         }
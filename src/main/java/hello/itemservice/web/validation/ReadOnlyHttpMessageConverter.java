@@ -0,0 +1,65 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 요청 바디 읽기만 하는 HttpMessageConverter 의 기반 클래스
+ * - canWrite 가 항상 false 이므로 응답 쓰기에는 선택되지 않는다 ( 응답은 스프링 기본 Jackson 컨버터가 쓴다 )
+ * - write 는 인터페이스가 요구해서만 있고, 호출되면 스프링의 쓰기 실패 예외로 알린다
+ */
+abstract class ReadOnlyHttpMessageConverter<T> implements HttpMessageConverter<T> {
+
+    private final List<MediaType> supportedMediaTypes;
+
+    protected ReadOnlyHttpMessageConverter(MediaType... supportedMediaTypes) {
+        this.supportedMediaTypes = List.of(supportedMediaTypes);
+    }
+
+    protected abstract boolean supports(Class<?> clazz);
+
+    protected abstract T readInternal(Class<? extends T> clazz, HttpInputMessage inputMessage) throws IOException;
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!supports(clazz)) {
+            return false;
+        }
+        if (mediaType == null) {
+            return true;
+        }
+        for (MediaType supportedMediaType : supportedMediaTypes) {
+            if (supportedMediaType.includes(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return supportedMediaTypes;
+    }
+
+    @Override
+    public T read(Class<? extends T> clazz, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(clazz, inputMessage);
+    }
+
+    @Override
+    public void write(T t, @Nullable MediaType contentType, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException(getClass().getSimpleName() + " 는 요청 바디 읽기 전용입니다.");
+    }
+}
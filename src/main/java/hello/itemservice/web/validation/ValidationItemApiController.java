@@ -1,19 +1,54 @@
 package hello.itemservice.web.validation;
 
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.web.validation.event.ValidationEventLogger;
+import hello.itemservice.web.validation.form.ItemPatchForm;
 import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormBatch;
+import hello.itemservice.web.validation.form.ItemSaveFormReader;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
 @RequestMapping("/validation/api/items")
+@RequiredArgsConstructor
 public class ValidationItemApiController {
 
+    private final ItemRepository itemRepository;
+    private final ValidationEventLogger validationEventLogger;
+    private final ItemSaveFormBatchValidator itemSaveFormBatchValidator;
+
+    // ItemSaveFormHttpMessageConverter 가 읽으면서 발견한 타입 오류를 typeMismatch FieldError 로 추가한다
+    @InitBinder({"itemSaveForm", "itemPatchForm"})
+    public void init(WebDataBinder webDataBinder, WebRequest webRequest) {
+        ItemSaveFormHttpMessageConverter.applyTypeMismatches(webDataBinder, webRequest);
+    }
+
     @PostMapping("/add")
     public Object addItem(
             @RequestBody @Validated ItemSaveForm itemSaveForm,
@@ -23,11 +58,134 @@ public class ValidationItemApiController {
 
         // @RequestBody -> HttpMessageConverter -> ItemSaveForm 으로의 바인딩시 오류가 발생하면 오류내역을 반환
         if (bindingResult.hasErrors()) {
-            log.warn("검증 오류 발생 - bindingResult={}", bindingResult);
+            validationEventLogger.failed("api.add", bindingResult);
             return bindingResult.getAllErrors();
         }
 
         log.info("성공 로직 실행");
         return itemSaveForm;
     }
+
+    /**
+     * 일괄 등록 ( ItemSaveForm 배열, 최대 ItemSaveFormBatchHttpMessageConverter.MAX_ITEMS 개 )
+     * - 요청 형식 : JSON, CBOR ( application/cbor ), Smile ( application/x-jackson-smile )
+     * - 원소마다 /add 와 같은 검증을 하고, 같은 순서로 결과를 돌려준다
+     *   성공 { index, item }, 실패 { index, errors ( ObjectError 목록 ) }
+     * - 응답 형식은 Accept 를 따른다. Accept 가 없거나 모든 형식 ( MediaType.ALL ) 이면 요청과 같은 형식으로 쓴다 ( CBOR 로 보내면 CBOR 로 받는다 )
+     * - 수락 제어 토큰은 원소 수만큼 쓴다 ( 필터가 받은 하나 + 나머지는 컨버터가 원소를 읽기 전에 하나씩 차감, 모자라면 429 )
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<Map<String, Object>>> addItems(
+            @RequestBody ItemSaveFormBatch batch,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        List<Map<String, Object>> results = new ArrayList<>(batch.size());
+        List<ItemSaveFormReader.Result> entries = batch.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            ItemSaveFormReader.Result entry = entries.get(i);
+            BindingResult bindingResult = itemSaveFormBatchValidator.validate(entry);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("index", i);
+            if (bindingResult.hasErrors()) {
+                validationEventLogger.failed("api.batch", bindingResult);
+                result.put("errors", bindingResult.getAllErrors());
+            } else {
+                result.put("item", entry.getForm());
+            }
+            results.add(result);
+        }
+
+        if (!acceptsAny(accept)) {
+            return ResponseEntity.ok(results);
+        }
+        // charset 같은 파라미터는 빼고 요청의 형식만 그대로 쓴다
+        MediaType requestType = MediaType.parseMediaType(contentType);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(requestType.getType(), requestType.getSubtype()))
+                .body(results);
+    }
+
+    // Accept 가 없거나 */* 뿐이면 어떤 형식이든 받는다 ( 잘못된 Accept 도 지정하지 않은 것으로 본다 )
+    private static boolean acceptsAny(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream().allMatch(MediaType.ALL::equalsTypeAndSubtype);
+        } catch (InvalidMediaTypeException e) {
+            return true;
+        }
+    }
+
+    /**
+     * 부분 수정
+     * - 보낸 필드와 그 필드가 걸린 규칙 ( 가격 * 수량 ) 만 검증한다
+     * - 응답 : 성공시 { item, changed }, 검증 오류시 ObjectError 목록 ( /add 와 같음 )
+     *          상품이 없으면 404, 검증하는 사이 다른 수정이 있었으면 409
+     * - 값이 그대로면 저장하지 않는다 ( changed=false, 변경 피드 / 집계 / 색인 갱신도 없음 )
+     */
+    @PatchMapping("/{itemId}")
+    public ResponseEntity<Object> patchItem(
+            @PathVariable Long itemId,
+            @RequestBody @Validated ItemPatchForm itemPatchForm,
+            BindingResult bindingResult
+    ) {
+        Item findItem = itemRepository.findById(itemId);
+        if (findItem == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 필수 필드는 보냈으면 값이 있어야 한다 ( null 을 보내서 지울 수 없다 )
+        if (itemPatchForm.hasItemName() && !StringUtils.hasText(itemPatchForm.getItemName())) {
+            bindingResult.rejectValue("itemName", "NotBlank", new Object[]{"itemName"}, null);
+        }
+        if (itemPatchForm.hasPrice() && itemPatchForm.getPrice() == null) {
+            bindingResult.rejectValue("price", "NotNull", new Object[]{"price"}, null);
+        }
+        if (itemPatchForm.hasQuantity() && itemPatchForm.getQuantity() == null) {
+            bindingResult.rejectValue("quantity", "NotNull", new Object[]{"quantity"}, null);
+        }
+
+        Item patchedItem = merge(findItem, itemPatchForm);
+
+        // ObjectError 검증 - 가격이나 수량을 바꿀 때만 ( 보내지 않은 값은 저장된 값 사용 )
+        boolean totalPriceAffected = itemPatchForm.hasPrice() || itemPatchForm.hasQuantity();
+        if (totalPriceAffected && patchedItem.getPrice() != null && patchedItem.getQuantity() != null) {
+            long resultPrice = (long) patchedItem.getPrice() * patchedItem.getQuantity();
+            if (resultPrice < 10000) {
+                bindingResult.reject("totalPrice", new Object[]{10000, resultPrice}, null);
+            }
+        }
+
+        if (bindingResult.hasErrors()) {
+            validationEventLogger.failed("api.patch", bindingResult);
+            return ResponseEntity.ok(bindingResult.getAllErrors());
+        }
+
+        ItemRepository.PatchResult result = itemRepository.patch(itemId, findItem, patchedItem);
+        switch (result) {
+            case NOT_FOUND:
+                return ResponseEntity.notFound().build();
+            case CONFLICT:
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            default:
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("item", result == ItemRepository.PatchResult.UPDATED ? patchedItem : findItem);
+                body.put("changed", result == ItemRepository.PatchResult.UPDATED);
+                return ResponseEntity.ok(body);
+        }
+    }
+
+    // 보낸 필드는 보낸 값 ( email 은 null 이면 지운다 ), 보내지 않은 필드는 저장된 값
+    private Item merge(Item findItem, ItemPatchForm itemPatchForm) {
+        Item item = new Item(
+                itemPatchForm.hasItemName() ? itemPatchForm.getItemName() : findItem.getItemName(),
+                itemPatchForm.hasPrice() ? itemPatchForm.getPrice() : findItem.getPrice(),
+                itemPatchForm.hasQuantity() ? itemPatchForm.getQuantity() : findItem.getQuantity());
+        item.setId(findItem.getId());
+        item.setEmail(itemPatchForm.hasEmail() ? itemPatchForm.getEmail() : findItem.getEmail());
+        return item;
+    }
 }
@@ -2,6 +2,7 @@ package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.feed.ItemChangeFeed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -19,9 +20,13 @@ import java.util.Map;
 public class ValidationItemControllerV1 {
 
     private final ItemRepository itemRepository;
+    // 목록 화면의 변경 피드 시작 위치 ( feedSequence )
+    private final ItemChangeFeed itemChangeFeed;
 
     @GetMapping
     public String items(Model model) {
+        // findAll 보다 먼저 읽어야 이 값부터 구독했을 때 조회 이후의 변경을 놓치지 않는다
+        model.addAttribute("feedSequence", itemChangeFeed.nextSequence());
         List<Item> items = itemRepository.findAll();
         model.addAttribute("items", items);
         return "validation/v1/items";
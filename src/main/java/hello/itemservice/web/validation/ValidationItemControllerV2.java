@@ -2,6 +2,10 @@ package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.feed.ItemChangeFeed;
+import hello.itemservice.web.binding.ItemBinderValidators;
+import hello.itemservice.web.validation.constraint.EmailMatcher;
+import hello.itemservice.web.validation.event.ValidationEventLogger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -10,37 +14,43 @@ import org.springframework.util.StringUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
+import org.springframework.validation.Validator;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 @Slf4j
 @Controller
 @RequestMapping("/validation/v2/items")
 @RequiredArgsConstructor
-public class ValidationItemControllerV2 {
+public class ValidationItemControllerV2 implements ItemBinderValidators {
 
     private final ItemRepository itemRepository;
+    // 목록 화면의 변경 피드 시작 위치 ( feedSequence )
+    private final ItemChangeFeed itemChangeFeed;
 
     // Validator 등록용 ( addItemV5 메서드에서 사용 )
     private final ItemValidator itemValidator;
 
+    // 검증 실패 로그 ( 샘플링 / 초당 한도 / 비동기 기록 )
+    private final ValidationEventLogger validationEventLogger;
+
     // Validator 를 구현한 ItemValidator 를 WebDataBinder 에 등록한다 ( addItemV6 메서드에서 사용 )
-    @InitBinder
-    public void init(WebDataBinder webDataBinder) {
-        log.info("init WebDataBinder1={}", webDataBinder);
-        webDataBinder.addValidators(itemValidator);
-        log.info("init WebDataBinder2={}", webDataBinder);
+    // - @InitBinder 메서드 대신 ItemBinderValidators 로 등록 ( 처음 한 번만 호출되고, Item 바인더에만 붙는다 )
+    // - 바인딩 허용 필드는 ItemFormBinding 의 표 ( 폼에 있는 필드만 setter 로 직접 바인딩 )
+    @Override
+    public List<Validator> itemBinderValidators() {
+        return List.of(itemValidator);
     }
 
     @GetMapping
     public String items(Model model) {
+        // findAll 보다 먼저 읽어야 이 값부터 구독했을 때 조회 이후의 변경을 놓치지 않는다
+        model.addAttribute("feedSequence", itemChangeFeed.nextSequence());
         List<Item> items = itemRepository.findAll();
         model.addAttribute("items", items);
         return "validation/v2/items";
@@ -79,7 +89,7 @@ public class ValidationItemControllerV2 {
         // 메시지 코드를 사용하지 않는 방식 적용
 
         // 0. 입력값 검증 기초자료
-        log.info("bindingResult.getClass()={}", bindingResult.getClass());
+        log.debug("bindingResult.getClass()={}", bindingResult.getClass());
 
         String itemName = item.getItemName();
         Integer price = item.getPrice();
@@ -114,7 +124,7 @@ public class ValidationItemControllerV2 {
 
         // 5. 입력값 오류시 입력 폼 화면을 다시 렌더링해서 클라이언트에게 전달
         if (bindingResult.hasErrors()) {
-            log.info("bindingResult={}", bindingResult);
+            validationEventLogger.failed("v2.add.v1", bindingResult);
             return "validation/v2/addForm";
         }
 
@@ -166,7 +176,7 @@ public class ValidationItemControllerV2 {
 
         // 입력값 검증 오류가 있는 경우, 입력폼으로 돌아감
         if (bindingResult.hasErrors()) {
-            log.info("addItemV2.bindingResult={}", bindingResult);
+            validationEventLogger.failed("v2.add.v2", bindingResult);
             return "validation/v2/addForm";
         }
 
@@ -217,7 +227,7 @@ public class ValidationItemControllerV2 {
 
         // 입력값 오류가 있는 경우 입력 폼으로 되돌아가기
         if (bindingResult.hasErrors()) {
-            log.info("addItemV3.bindingResult={}", bindingResult);
+            validationEventLogger.failed("v2.add.v3", bindingResult);
             return "validation/v2/addForm";
         }
 
@@ -284,7 +294,7 @@ public class ValidationItemControllerV2 {
         if (!StringUtils.hasText(email)) {
             bindingResult.rejectValue("email", "required");
         } else {
-            if (!Pattern.matches("^[0-9a-zA-Z]([-_.]?[0-9a-zA-Z])*@[0-9a-zA-Z]([-_.]?[0-9a-zA-Z])*.[a-zA-Z]{2,3}$", email)) {
+            if (!EmailMatcher.matches(email)) {
                 bindingResult.rejectValue("email", "incorrect");
             }
         }
@@ -298,9 +308,7 @@ public class ValidationItemControllerV2 {
         }
 
         if (bindingResult.hasErrors()) {
-            log.info("addItemV4 - bindingResult.getObjectName()={}", bindingResult.getObjectName());
-            log.info("addItemV4 - bindingResult.getTarget()={}", bindingResult.getTarget());
-            log.info("addItemV4 - bindingResult={}", bindingResult);
+            validationEventLogger.failed("v2.add.v4", bindingResult);
             return "validation/v2/addForm";
         }
 
@@ -328,7 +336,7 @@ public class ValidationItemControllerV2 {
         }
 
         if (bindingResult.hasErrors()) {
-            log.info("addItemV5 - bindingResult={}", bindingResult);
+            validationEventLogger.failed("v2.add.v5", bindingResult);
             return "validation/v2/addForm";
         }
 
@@ -341,6 +349,7 @@ public class ValidationItemControllerV2 {
     /*
     BindingResult 의 여섯 번째 적용 방식
     - 별도의 검증용 클래스를 만들고, 웹 데이터 바인더에 등록 ( @InitBinder, WebDataBinder, WebDataBinder.addValidator() ) - 클래스 내에 별도 메서드로 정의 필요
+      ( 지금은 @InitBinder 대신 ItemBinderValidators 로 등록한다 )
     - @ModelAttribute 대상 객체 앞에 @Validate 를 붙혀서 검증을 실행
     - 그에 대한 결과가 BindingResult 에 자동으로 들어간다
      */
@@ -351,7 +360,7 @@ public class ValidationItemControllerV2 {
             RedirectAttributes redirectAttributes
     ) {
         if (bindingResult.hasErrors()) {
-            log.info("addItemV6 - bindingResult={}", bindingResult);
+            validationEventLogger.failed("v2.add", bindingResult);
             return "validation/v2/addForm";
         }
 
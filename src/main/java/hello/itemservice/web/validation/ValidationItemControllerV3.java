@@ -2,8 +2,10 @@ package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.feed.ItemChangeFeed;
 import hello.itemservice.domain.item.SaveCheck;
 import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.web.validation.event.ValidationEventLogger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -13,7 +15,6 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
@@ -27,9 +28,14 @@ import java.util.regex.Pattern;
 public class ValidationItemControllerV3 {
 
     private final ItemRepository itemRepository;
+    // 목록 화면의 변경 피드 시작 위치 ( feedSequence )
+    private final ItemChangeFeed itemChangeFeed;
+    private final ValidationEventLogger validationEventLogger;
 
     @GetMapping
     public String items(Model model) {
+        // findAll 보다 먼저 읽어야 이 값부터 구독했을 때 조회 이후의 변경을 놓치지 않는다
+        model.addAttribute("feedSequence", itemChangeFeed.nextSequence());
         List<Item> items = itemRepository.findAll();
         model.addAttribute("items", items);
         return "validation/v3/items";
@@ -75,7 +81,7 @@ public class ValidationItemControllerV3 {
         }
 
         if (bindingResult.hasErrors()) {
-            log.info("addItem - bindingResult={}", bindingResult);
+            validationEventLogger.failed("v3.add", bindingResult);
             return "validation/v3/addForm";
         }
 
@@ -108,7 +114,7 @@ public class ValidationItemControllerV3 {
         
         // FieldError, ObjectError 가 있는 경우, 요청을 한 화면을 다시 렌더링해서 보내줌
         if (bindingResult.hasErrors()) {
-            log.info("edit - bindingResult={}", bindingResult);
+            validationEventLogger.failed("v3.edit", bindingResult);
             return "validation/v3/editForm";
         }
         
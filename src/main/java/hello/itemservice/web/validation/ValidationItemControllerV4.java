@@ -2,8 +2,11 @@ package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.feed.ItemChangeFeed;
 import hello.itemservice.domain.item.SaveCheck;
 import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.web.validation.async.AsyncValidationStage;
+import hello.itemservice.web.validation.event.ValidationEventLogger;
 import hello.itemservice.web.validation.form.ItemSaveForm;
 import hello.itemservice.web.validation.form.ItemUpdateForm;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Controller
@@ -25,9 +29,17 @@ import java.util.List;
 public class ValidationItemControllerV4 {
 
     private final ItemRepository itemRepository;
+    // 목록 화면의 변경 피드 시작 위치 ( feedSequence )
+    private final ItemChangeFeed itemChangeFeed;
+    private final ValidationEventLogger validationEventLogger;
+
+    // 느린 규칙 ( 거래 제한 공급처, 이메일 도메인, 상품명 중복 ) 을 동시에 실행
+    private final AsyncValidationStage asyncValidationStage;
 
     @GetMapping
     public String items(Model model) {
+        // findAll 보다 먼저 읽어야 이 값부터 구독했을 때 조회 이후의 변경을 놓치지 않는다
+        model.addAttribute("feedSequence", itemChangeFeed.nextSequence());
         List<Item> items = itemRepository.findAll();
         model.addAttribute("items", items);
         return "validation/v4/items";
@@ -43,6 +55,8 @@ public class ValidationItemControllerV4 {
     @GetMapping("/add")
     public String addForm(Model model) {
         model.addAttribute("item", new Item());
+        // 중복 제출 방지용 멱등키 ( IdempotencyFilter 가 같은 키의 재제출에는 처음 응답을 그대로 돌려준다 )
+        model.addAttribute("idempotencyKey", UUID.randomUUID().toString());
         return "validation/v4/addForm";
     }
 
@@ -50,7 +64,8 @@ public class ValidationItemControllerV4 {
     public String addItem(
             @Validated @ModelAttribute(name = "item") ItemSaveForm itemSaveForm,
             BindingResult bindingResult,
-            RedirectAttributes redirectAttributes
+            RedirectAttributes redirectAttributes,
+            Model model
             ) {
 
         // ObjectError 검증
@@ -61,19 +76,24 @@ public class ValidationItemControllerV4 {
             }
         }
 
-        // BindingResult 에 오류가 있으면 입력 화면을 다시 클라이언트에게 전달
-        if (bindingResult.hasErrors()) {
-            log.info("addItem - bindingResult={}", bindingResult);
-            return "validation/v4/addForm";
-        }
-
-        // BindingResult 에 오류가 없으면 저장 후 상세 화면을 클라이언트에게 전달
         Item item = new Item();
         item.setItemName(itemSaveForm.getItemName());
         item.setPrice(itemSaveForm.getPrice());
         item.setQuantity(itemSaveForm.getQuantity());
         item.setEmail(itemSaveForm.getEmail());
 
+        // 위 검증을 통과했을 때만 느린 규칙을 실행 ( 결과는 같은 BindingResult 에 들어간다 )
+        asyncValidationStage.validate(item, bindingResult);
+
+        // BindingResult 에 오류가 있으면 입력 화면을 다시 클라이언트에게 전달
+        if (bindingResult.hasErrors()) {
+            validationEventLogger.failed("v4.add", bindingResult);
+            // 오류 화면은 이전 키로 저장되므로, 수정 후 다시 제출할 때는 새 키를 사용한다
+            model.addAttribute("idempotencyKey", UUID.randomUUID().toString());
+            return "validation/v4/addForm";
+        }
+
+        // BindingResult 에 오류가 없으면 저장 후 상세 화면을 클라이언트에게 전달
         Item savedItem = itemRepository.save(item);
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
@@ -102,14 +122,6 @@ public class ValidationItemControllerV4 {
             }
         }
 
-        // BindingResult 에 오류가 있으면 수정 화면을 다시 보여줌
-        if (bindingResult.hasErrors()) {
-            log.info("edit - bindingResult={}", bindingResult);
-            return "validation/v4/editForm";
-        }
-
-        // BindingResult 에 오류가 없으면 수정을 진행 한 후, 상세 화면으로 redirect
-
         Item item = new Item();
         item.setId(itemUpdateForm.getId());
         item.setItemName(itemUpdateForm.getItemName());
@@ -117,6 +129,16 @@ public class ValidationItemControllerV4 {
         item.setQuantity(itemUpdateForm.getQuantity());
         item.setEmail(itemUpdateForm.getEmail());
 
+        asyncValidationStage.validate(item, bindingResult);
+
+        // BindingResult 에 오류가 있으면 수정 화면을 다시 보여줌
+        if (bindingResult.hasErrors()) {
+            validationEventLogger.failed("v4.edit", bindingResult);
+            return "validation/v4/editForm";
+        }
+
+        // BindingResult 에 오류가 없으면 수정을 진행 한 후, 상세 화면으로 redirect
+
         log.info("item={}", item);
 
         itemRepository.update(item.getId(), item);
@@ -0,0 +1,164 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.web.validation.event.ValidationEventLogger;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.MediaType;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingErrorProcessor;
+import org.springframework.validation.DefaultBindingErrorProcessor;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * /validation/api/items/add 의 논블로킹 버전
+ * - 서블릿 3.1 비동기 + ReadListener 로 요청 바디를 읽는다
+ *   -> 느린 클라이언트가 바디를 보내는 동안 톰캣 스레드를 붙잡고 있지 않는다
+ * - 바디를 다 받은 뒤 ItemSaveFormReader 로 파싱, Bean Validation 으로 검증
+ * - 응답 형식은 ValidationItemApiController 와 같다 ( 성공시 ItemSaveForm, 실패시 ObjectError 목록 )
+ */
+@Slf4j
+public class ValidationItemNonBlockingApiServlet extends HttpServlet {
+
+    // 요청 바디 최대 크기
+    private static final int MAX_BODY_SIZE = 64 * 1024;
+    private static final long ASYNC_TIMEOUT_MILLIS = 30_000;
+
+    private final ItemSaveFormReader reader = new ItemSaveFormReader(new JsonFactory());
+    private final BindingErrorProcessor bindingErrorProcessor = new DefaultBindingErrorProcessor();
+    private final SpringValidatorAdapter validator;
+    private final ObjectMapper objectMapper;
+    private final ValidationEventLogger validationEventLogger;
+
+    public ValidationItemNonBlockingApiServlet(Validator validator, ObjectMapper objectMapper,
+                                               ValidationEventLogger validationEventLogger) {
+        this.validator = new SpringValidatorAdapter(validator);
+        this.objectMapper = objectMapper;
+        this.validationEventLogger = validationEventLogger;
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (request.getContentLengthLong() > MAX_BODY_SIZE) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        }
+
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(ASYNC_TIMEOUT_MILLIS);
+        ServletInputStream inputStream = request.getInputStream();
+        inputStream.setReadListener(new BodyReadListener(asyncContext, inputStream, request.getContentLength()));
+    }
+
+    private void handle(byte[] body, HttpServletResponse response) throws IOException {
+        log.info("논블로킹 API 호출");
+
+        ItemSaveFormReader.Result result;
+        try {
+            result = reader.read(new ByteArrayInputStream(body));
+        } catch (JsonProcessingException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        // @RequestBody + @Validated 와 같은 순서 : 타입 오류 -> Bean Validation
+        ItemSaveForm itemSaveForm = result.getForm();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(itemSaveForm, "itemSaveForm");
+        for (TypeMismatchException typeMismatch : result.getTypeMismatches()) {
+            bindingErrorProcessor.processPropertyAccessException(typeMismatch, bindingResult);
+        }
+        validator.validate(itemSaveForm, bindingResult);
+
+        Object responseBody;
+        if (bindingResult.hasErrors()) {
+            validationEventLogger.failed("api.non-blocking.add", bindingResult);
+            responseBody = bindingResult.getAllErrors();
+        } else {
+            log.info("성공 로직 실행");
+            responseBody = itemSaveForm;
+        }
+
+        // 응답은 작아서 출력 버퍼에 모두 들어가므로 쓰기는 블로킹되지 않는다
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), responseBody);
+    }
+
+    private class BodyReadListener implements ReadListener {
+
+        private final AsyncContext asyncContext;
+        private final ServletInputStream inputStream;
+        private final ByteArrayOutputStream body;
+        private final byte[] buffer = new byte[4096];
+        // 크기 초과 등으로 먼저 응답을 끝낸 경우 ( 리스너 콜백은 컨테이너가 순서대로 호출한다 )
+        private boolean completed;
+
+        BodyReadListener(AsyncContext asyncContext, ServletInputStream inputStream, int contentLength) {
+            this.asyncContext = asyncContext;
+            this.inputStream = inputStream;
+            this.body = new ByteArrayOutputStream(contentLength > 0 ? contentLength : 256);
+        }
+
+        @Override
+        public void onDataAvailable() throws IOException {
+            // isReady() 가 false 가 되면 리턴하고, 데이터가 더 들어오면 컨테이너가 다시 호출한다
+            while (!completed && inputStream.isReady()) {
+                int read = inputStream.read(buffer);
+                if (read == -1) {
+                    return;
+                }
+                if (body.size() + read > MAX_BODY_SIZE) {
+                    complete(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+                    return;
+                }
+                body.write(buffer, 0, read);
+            }
+        }
+
+        @Override
+        public void onAllDataRead() throws IOException {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            try {
+                handle(body.toByteArray(), (HttpServletResponse) asyncContext.getResponse());
+            } finally {
+                asyncContext.complete();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (completed) {
+                return;
+            }
+            log.warn("요청 바디 읽기 실패", t);
+            complete(HttpServletResponse.SC_BAD_REQUEST);
+        }
+
+        private void complete(int status) {
+            completed = true;
+            HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+            if (!response.isCommitted()) {
+                response.setStatus(status);
+            }
+            asyncContext.complete();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.search.ItemSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+
+/**
+ * 상품명 검색
+ * - 화면 : /validation/v4/items/search?q= ( v4 상품 목록 화면에 결과만 보여준다 )
+ * - API : /validation/api/items/search?q=&limit=
+ */
+@Controller
+@RequiredArgsConstructor
+public class ValidationItemSearchController {
+
+    private static final int PAGE_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    private final ItemSearchService itemSearchService;
+
+    @GetMapping("/validation/v4/items/search")
+    public String search(@RequestParam(defaultValue = "") String q, Model model) {
+        if (!StringUtils.hasText(q)) {
+            return "redirect:/validation/v4/items";
+        }
+        model.addAttribute("items", itemSearchService.search(q, PAGE_LIMIT));
+        model.addAttribute("query", q);
+        return "validation/v4/items";
+    }
+
+    @ResponseBody
+    @GetMapping("/validation/api/items/search")
+    public List<Item> searchApi(@RequestParam String q, @RequestParam(defaultValue = "100") int limit) {
+        return itemSearchService.search(q, Math.max(1, Math.min(MAX_LIMIT, limit)));
+    }
+}
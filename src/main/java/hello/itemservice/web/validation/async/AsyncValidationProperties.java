@@ -0,0 +1,70 @@
+package hello.itemservice.web.validation.async;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비동기 검증 설정 ( item.async-validation.* )
+ * - 규칙별 설정은 rules.<규칙 이름>.* 로 덮어쓴다
+ *   예) item.async-validation.rules.uniqueItemName.fallback=reject
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "item.async-validation")
+public class AsyncValidationProperties {
+
+    public enum Fallback {
+        // 시간 초과/실패한 규칙은 통과로 본다
+        ALLOW,
+        // 시간 초과/실패한 규칙이 있으면 잠시 후 다시 시도하라는 오류를 낸다
+        REJECT
+    }
+
+    private boolean enabled = true;
+
+    // 규칙을 실행할 스레드 수, 대기열 크기 ( 가득 차면 실행하지 않고 fallback )
+    private int threads = 8;
+    private int queueCapacity = 256;
+
+    // 규칙별 설정이 없을 때 쓰는 기본값
+    private Duration timeout = Duration.ofMillis(300);
+    private Fallback fallback = Fallback.ALLOW;
+
+    private Map<String, RuleSettings> rules = new HashMap<>();
+
+    // 거래 제한 공급처 목록 ( 한 줄에 이메일 주소 또는 도메인 하나, # 은 주석 )
+    private String blacklistFile = "data/supplier-blacklist.txt";
+
+    // 도메인 확인 대역 ( LocalDomainResolver ) : 확인되지 않는 도메인, 조회 지연
+    private List<String> unresolvableDomains = List.of();
+    private Duration resolverLatency = Duration.ZERO;
+
+    public Duration timeoutOf(String ruleName) {
+        RuleSettings settings = rules.get(ruleName);
+        return settings != null && settings.getTimeout() != null ? settings.getTimeout() : timeout;
+    }
+
+    // 규칙별 설정 -> 규칙이 정한 기본값 -> 전체 기본값 순서
+    public Fallback fallbackOf(String ruleName, Fallback ruleDefault) {
+        RuleSettings settings = rules.get(ruleName);
+        if (settings != null && settings.getFallback() != null) {
+            return settings.getFallback();
+        }
+        return ruleDefault != null ? ruleDefault : fallback;
+    }
+
+    @Getter
+    @Setter
+    public static class RuleSettings {
+        private Duration timeout;
+        private Fallback fallback;
+    }
+}
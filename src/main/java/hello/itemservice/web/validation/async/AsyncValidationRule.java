@@ -0,0 +1,29 @@
+package hello.itemservice.web.validation.async;
+
+import hello.itemservice.domain.item.Item;
+
+import java.util.List;
+
+/**
+ * 느릴 수 있는 ( 파일, 외부 조회, 저장소 조회 ) 검증 규칙
+ * - AsyncValidationStage 가 검증 스레드에서 다른 규칙과 동시에 실행한다
+ * - 시간 제한과 fallback 은 item.async-validation.rules.<name>.* 로 정한다
+ * - 시간 제한을 넘기면 실행 중인 스레드를 interrupt 한다. 오래 걸리는 작업 ( 대기, 반복 ) 은 interrupt 에 반응해서 멈춰야 한다
+ * - item 은 읽기만 한다
+ */
+public interface AsyncValidationRule {
+
+    String name();
+
+    /**
+     * @return 찾은 오류 ( 없으면 빈 목록 ). 예외를 던지면 fallback 정책을 따른다
+     */
+    List<RuleViolation> check(Item item);
+
+    /**
+     * 규칙별 설정이 없을 때의 fallback ( null 이면 item.async-validation.fallback )
+     */
+    default AsyncValidationProperties.Fallback defaultFallback() {
+        return null;
+    }
+}
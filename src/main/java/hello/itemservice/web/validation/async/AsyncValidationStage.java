@@ -0,0 +1,154 @@
+package hello.itemservice.web.validation.async;
+
+import hello.itemservice.domain.item.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 비동기 검증 단계
+ * - Bean Validation / 가격 * 수량 같은 가벼운 검증을 통과한 뒤에만 실행한다 ( 이미 오류가 있으면 느린 조회를 하지 않는다 )
+ * - 등록된 AsyncValidationRule 을 검증 스레드 풀에서 동시에 실행한다
+ *   -> 요청 지연시간은 규칙 시간의 합이 아니라 가장 느린 규칙 ( 최대 시간 제한 ) 만큼만 늘어난다
+ * - 규칙별 시간 제한을 넘기거나 예외가 나거나 대기열이 가득 차면 fallback 정책을 따른다 ( ALLOW : 통과, REJECT : validationUnavailable )
+ *   시간을 넘긴 규칙은 취소한다 ( 대기 중이면 실행하지 않고, 실행 중이면 interrupt ) -> 끝나지 않은 규칙이 스레드를 붙잡아 풀이 차지 않게 한다
+ * - fallback 은 규칙별 설정 -> 규칙의 defaultFallback ( supplierBlacklist 는 REJECT ) -> 전체 기본값 순서로 정한다
+ * - 결과는 요청 스레드에서 규칙 등록 순서대로 BindingResult 에 넣는다 ( BindingResult 는 스레드 안전하지 않다 )
+ */
+@Slf4j
+@Component
+public class AsyncValidationStage implements AutoCloseable {
+
+    public static final String UNAVAILABLE_CODE = "validationUnavailable";
+
+    private final List<AsyncValidationRule> rules;
+    private final AsyncValidationProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public AsyncValidationStage(List<AsyncValidationRule> rules, AsyncValidationProperties properties) {
+        this.rules = List.copyOf(rules);
+        this.properties = properties;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "async-validation-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Autowired
+    public AsyncValidationStage(ObjectProvider<AsyncValidationRule> rules, AsyncValidationProperties properties) {
+        this(rules.orderedStream().collect(Collectors.toList()), properties);
+    }
+
+    public void validate(Item item, BindingResult bindingResult) {
+        if (!properties.isEnabled() || rules.isEmpty() || bindingResult.hasErrors()) {
+            return;
+        }
+
+        List<CompletableFuture<List<RuleViolation>>> results = new ArrayList<>(rules.size());
+        for (AsyncValidationRule rule : rules) {
+            results.add(submit(rule, item));
+        }
+        boolean unavailable = false;
+        for (CompletableFuture<List<RuleViolation>> result : results) {
+            for (RuleViolation violation : result.join()) {
+                // 여러 규칙이 fallback 으로 거절해도 안내 메시지는 하나만
+                if (violation.getField() == null && UNAVAILABLE_CODE.equals(violation.getCode())) {
+                    if (unavailable) {
+                        continue;
+                    }
+                    unavailable = true;
+                }
+                violation.applyTo(bindingResult);
+            }
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("rules", rules.stream().map(AsyncValidationRule::name).collect(Collectors.toList()));
+        stats.put("executions", executions.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("failures", failures.sum());
+        stats.put("rejections", rejections.sum());
+        stats.put("queued", executor.getQueue().size());
+        return stats;
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // CompletableFuture.cancel 은 실행 중인 스레드를 interrupt 하지 않으므로 실행은 executor.submit ( FutureTask ) 으로 하고
+    // 시간 초과 / 실패로 끝나면 그 작업을 cancel(true) 한다
+    private CompletableFuture<List<RuleViolation>> submit(AsyncValidationRule rule, Item item) {
+        executions.increment();
+        CompletableFuture<List<RuleViolation>> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(rule.check(item));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.<List<RuleViolation>>failedFuture(e).exceptionally(ex -> fallback(rule, ex));
+        }
+        return result
+                .orTimeout(properties.timeoutOf(rule.name()).toNanos(), TimeUnit.NANOSECONDS)
+                .whenComplete((violations, e) -> {
+                    if (e != null) {
+                        task.cancel(true);
+                    }
+                })
+                .exceptionally(e -> fallback(rule, e));
+    }
+
+    private List<RuleViolation> fallback(AsyncValidationRule rule, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof TimeoutException) {
+            timeouts.increment();
+        } else if (cause instanceof RejectedExecutionException) {
+            rejections.increment();
+        } else {
+            failures.increment();
+            log.warn("비동기 검증 규칙 실패 - rule={}", rule.name(), cause);
+        }
+
+        if (properties.fallbackOf(rule.name(), rule.defaultFallback()) == AsyncValidationProperties.Fallback.REJECT) {
+            return List.of(RuleViolation.global(UNAVAILABLE_CODE));
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,10 @@
+package hello.itemservice.web.validation.async;
+
+/**
+ * 이메일 도메인 확인 ( 메일을 받을 수 있는 도메인인지 )
+ * - 기본은 LocalDomainResolver ( 외부 조회 없는 대역 ), DNS MX 조회 등으로 바꿀 수 있다
+ */
+public interface DomainResolver {
+
+    boolean resolves(String domain);
+}
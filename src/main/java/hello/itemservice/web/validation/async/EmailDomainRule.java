@@ -0,0 +1,37 @@
+package hello.itemservice.web.validation.async;
+
+import hello.itemservice.domain.item.Item;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * 이메일 도메인 확인
+ * - 이메일 @ 뒤의 도메인이 확인되지 않으면 email 필드 오류 ( unresolvableDomain )
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailDomainRule implements AsyncValidationRule {
+
+    private final DomainResolver domainResolver;
+
+    @Override
+    public String name() {
+        return "emailDomain";
+    }
+
+    @Override
+    public List<RuleViolation> check(Item item) {
+        String email = item.getEmail();
+        if (!StringUtils.hasText(email)) {
+            return List.of();
+        }
+        String domain = email.substring(email.lastIndexOf('@') + 1);
+        if (domain.isEmpty() || !domainResolver.resolves(domain)) {
+            return List.of(RuleViolation.field("email", "unresolvableDomain"));
+        }
+        return List.of();
+    }
+}
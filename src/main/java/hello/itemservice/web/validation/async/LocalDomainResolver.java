@@ -0,0 +1,47 @@
+package hello.itemservice.web.validation.async;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 외부 조회 없이 동작하는 도메인 확인 대역
+ * - 점이 없는 도메인, 예약된 최상위 도메인 ( .invalid, .test, .localhost, .example ), 설정한 도메인은 확인되지 않는 것으로 본다
+ * - resolverLatency 만큼 기다린 뒤 답한다 ( 실제 조회의 지연을 흉내 )
+ */
+@Component
+public class LocalDomainResolver implements DomainResolver {
+
+    private static final Set<String> RESERVED_TLDS = Set.of("invalid", "test", "localhost", "example");
+
+    private final Set<String> unresolvableDomains;
+    private final Duration latency;
+
+    public LocalDomainResolver(AsyncValidationProperties properties) {
+        this.unresolvableDomains = properties.getUnresolvableDomains().stream()
+                .map(domain -> domain.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.latency = properties.getResolverLatency();
+    }
+
+    @Override
+    public boolean resolves(String domain) {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        String normalized = domain.toLowerCase(Locale.ROOT);
+        int lastDot = normalized.lastIndexOf('.');
+        if (lastDot < 0) {
+            return false;
+        }
+        return !RESERVED_TLDS.contains(normalized.substring(lastDot + 1)) && !unresolvableDomains.contains(normalized);
+    }
+}
@@ -0,0 +1,39 @@
+package hello.itemservice.web.validation.async;
+
+import lombok.Getter;
+import org.springframework.validation.BindingResult;
+
+/**
+ * 비동기 규칙이 찾은 오류 하나
+ * - 규칙은 다른 스레드에서 실행되므로 BindingResult 에 직접 넣지 않고 이 값만 돌려준다
+ * - field 가 null 이면 ObjectError
+ */
+@Getter
+public class RuleViolation {
+
+    private final String field;
+    private final String code;
+    private final Object[] args;
+
+    private RuleViolation(String field, String code, Object[] args) {
+        this.field = field;
+        this.code = code;
+        this.args = args;
+    }
+
+    public static RuleViolation field(String field, String code, Object... args) {
+        return new RuleViolation(field, code, args);
+    }
+
+    public static RuleViolation global(String code, Object... args) {
+        return new RuleViolation(null, code, args);
+    }
+
+    void applyTo(BindingResult bindingResult) {
+        if (field == null) {
+            bindingResult.reject(code, args, null);
+        } else {
+            bindingResult.rejectValue(field, code, args, null);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package hello.itemservice.web.validation.async;
+
+import hello.itemservice.domain.item.Item;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 거래 제한 공급처 검사
+ * - 상품의 이메일 ( 공급처 연락처 ) 주소나 도메인이 목록 파일에 있으면 email 필드 오류 ( blacklisted )
+ * - 파일이 바뀌었을 때만 다시 읽는다 ( 검사마다 수정 시각만 확인 ), 파일이 없으면 빈 목록
+ * - 확인하지 못한 채 통과시키면 거래 제한을 피해갈 수 있으므로 기본 fallback 은 REJECT
+ */
+@Component
+public class SupplierBlacklistRule implements AsyncValidationRule {
+
+    private final Path file;
+    private volatile Snapshot snapshot = new Snapshot(-1L, Set.of());
+
+    @Autowired
+    public SupplierBlacklistRule(AsyncValidationProperties properties) {
+        this(Paths.get(properties.getBlacklistFile()));
+    }
+
+    SupplierBlacklistRule(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public String name() {
+        return "supplierBlacklist";
+    }
+
+    @Override
+    public AsyncValidationProperties.Fallback defaultFallback() {
+        return AsyncValidationProperties.Fallback.REJECT;
+    }
+
+    @Override
+    public List<RuleViolation> check(Item item) {
+        String email = item.getEmail();
+        if (!StringUtils.hasText(email)) {
+            return List.of();
+        }
+        String address = email.toLowerCase(Locale.ROOT);
+        String domain = address.substring(address.lastIndexOf('@') + 1);
+
+        Set<String> entries = entries();
+        if (entries.contains(address) || entries.contains(domain)) {
+            return List.of(RuleViolation.field("email", "blacklisted"));
+        }
+        return List.of();
+    }
+
+    private Set<String> entries() {
+        try {
+            long modified = Files.exists(file) ? Files.getLastModifiedTime(file).toMillis() : -1L;
+            Snapshot current = snapshot;
+            if (current.modified == modified) {
+                return current.entries;
+            }
+            synchronized (this) {
+                if (snapshot.modified != modified) {
+                    snapshot = new Snapshot(modified, modified < 0 ? Set.of() : read());
+                }
+                return snapshot.entries;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Set<String> read() throws IOException {
+        Set<String> entries = new HashSet<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String entry = line.trim().toLowerCase(Locale.ROOT);
+            if (!entry.isEmpty() && !entry.startsWith("#")) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private static final class Snapshot {
+
+        private final long modified;
+        private final Set<String> entries;
+
+        private Snapshot(long modified, Set<String> entries) {
+            this.modified = modified;
+            this.entries = entries;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package hello.itemservice.web.validation.async;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.search.ItemNameIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * 상품명 중복 검사 ( 대소문자 무시 )
+ * - ItemNameIndex 로 후보를 좁히고 저장소에서 실제 상품명을 확인한다
+ * - 수정이면 자기 자신 ( 같은 id ) 은 제외한다
+ * - 검사와 저장 사이에 같은 이름이 저장될 수 있으므로 완전한 보장은 아니다 ( 입력 안내용 )
+ * - 시간 초과로 interrupt 되면 후보 확인을 멈춘다 ( 결과는 버려진다 )
+ */
+@Component
+@RequiredArgsConstructor
+public class UniqueItemNameRule implements AsyncValidationRule {
+
+    private final ItemNameIndex itemNameIndex;
+    private final ItemRepository itemRepository;
+
+    @Override
+    public String name() {
+        return "uniqueItemName";
+    }
+
+    @Override
+    public List<RuleViolation> check(Item item) {
+        String itemName = item.getItemName();
+        if (!StringUtils.hasText(itemName)) {
+            return List.of();
+        }
+
+        boolean[] duplicate = {false};
+        itemNameIndex.forEachCandidate(itemName, id -> {
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            if (item.getId() != null && item.getId() == id) {
+                return true;
+            }
+            Item found = itemRepository.findById(id);
+            duplicate[0] = found != null && itemName.equalsIgnoreCase(found.getItemName());
+            return !duplicate[0];
+        });
+        return duplicate[0] ? List.of(RuleViolation.field("itemName", "duplicate")) : List.of();
+    }
+}
@@ -0,0 +1,91 @@
+package hello.itemservice.web.validation.constraint;
+
+/**
+ * 이메일 형식 검사
+ * - 아래 정규식과 정확히 같은 문자열만 통과시킨다 ( ItemValidator 가 쓰던 규칙 )
+ *   ^[0-9a-zA-Z]([-_.]?[0-9a-zA-Z])*@[0-9a-zA-Z]([-_.]?[0-9a-zA-Z])*.[a-zA-Z]{2,3}$
+ *   -> 영문/숫자로 시작하고 끝나며, 구분자 ( - _ . ) 가 연달아 오지 않는 로컬 부분 @ 같은 규칙의 도메인
+ *      그 뒤에 줄바꿈이 아닌 아무 문자 하나 ( 정규식의 . ) 와 영문 2~3자
+ * - 정규식 엔진 없이 문자를 앞에서부터 한 번씩만 본다 ( 입력 길이에 비례, 객체 생성 없음, 되돌아가기 없음 )
+ *   -> 매 호출 Pattern 컴파일, 긴 입력에서의 되돌아가기 / 재귀 ( StackOverflowError ) 가 없다
+ */
+public final class EmailMatcher {
+
+    public static final String REGEX = "^[0-9a-zA-Z]([-_.]?[0-9a-zA-Z])*@[0-9a-zA-Z]([-_.]?[0-9a-zA-Z])*.[a-zA-Z]{2,3}$";
+
+    private EmailMatcher() {
+    }
+
+    public static boolean matches(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+
+        // 로컬 부분에는 @ 가 올 수 없으므로 첫 번째 @ 가 구분점
+        int at = -1;
+        for (int i = 0; i < length; i++) {
+            if (email.charAt(i) == '@') {
+                at = i;
+                break;
+            }
+        }
+        if (at < 0 || !isLabel(email, 0, at)) {
+            return false;
+        }
+
+        // 도메인 뒤쪽 : 아무 문자 하나 + 영문 2자 또는 3자
+        return matchesDomain(email, at + 1, length, 2) || matchesDomain(email, at + 1, length, 3);
+    }
+
+    private static boolean matchesDomain(CharSequence email, int from, int to, int letters) {
+        int anyEnd = to - letters;
+        if (anyEnd - 1 <= from) {
+            return false;
+        }
+        for (int i = anyEnd; i < to; i++) {
+            if (!isLetter(email.charAt(i))) {
+                return false;
+            }
+        }
+
+        // 정규식의 . 은 코드 포인트 하나 -> 서로게이트 쌍 ( 2 char ) 일 수도 있다
+        char any = email.charAt(anyEnd - 1);
+        if (Character.isLowSurrogate(any) && anyEnd - 2 > from && Character.isHighSurrogate(email.charAt(anyEnd - 2))) {
+            return isLabel(email, from, anyEnd - 2);
+        }
+        return !isLineTerminator(any) && isLabel(email, from, anyEnd - 1);
+    }
+
+    // [0-9a-zA-Z]([-_.]?[0-9a-zA-Z])*
+    private static boolean isLabel(CharSequence email, int from, int to) {
+        if (from >= to || !isAlphanumeric(email.charAt(from)) || !isAlphanumeric(email.charAt(to - 1))) {
+            return false;
+        }
+        boolean separator = false;
+        for (int i = from + 1; i < to - 1; i++) {
+            char c = email.charAt(i);
+            if (isAlphanumeric(c)) {
+                separator = false;
+            } else if (!separator && (c == '-' || c == '_' || c == '.')) {
+                separator = true;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    // UNIX_LINES, DOTALL 없이 정규식의 . 이 받지 않는 문자
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,28 @@
+package hello.itemservice.web.validation.constraint;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 상품 이메일 형식 ( EmailMatcher ) - ItemValidator 와 같은 규칙
+ * - null 이나 빈 문자열은 통과 ( @Email 과 같다, 필수 여부는 @NotBlank 로 )
+ * - 메시지 코드 : ItemEmail ( errors.properties )
+ */
+@Documented
+@Constraint(validatedBy = ItemEmailValidator.class)
+@Target({FIELD, METHOD, PARAMETER, ANNOTATION_TYPE})
+@Retention(RUNTIME)
+public @interface ItemEmail {
+
+    String message() default "올바른 형식의 이메일 주소가 아닙니다.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,12 @@
+package hello.itemservice.web.validation.constraint;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+public class ItemEmailValidator implements ConstraintValidator<ItemEmail, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || value.length() == 0 || EmailMatcher.matches(value);
+    }
+}
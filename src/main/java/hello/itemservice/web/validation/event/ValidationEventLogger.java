@@ -0,0 +1,180 @@
+package hello.itemservice.web.validation.event;
+
+import hello.itemservice.web.admission.TokenBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 검증 실패 이벤트 로그
+ * - bindingResult 전체를 toString 으로 남기는 대신 ( 엔드포인트, 필드, 오류 코드 ) 만 짧게 남긴다
+ *   예) endpoint=v4.add object=item errors=[itemName:NotBlank, price:Range]
+ * - 요청 스레드 : 샘플링 -> 초당 한도 ( 토큰 버킷 ) -> 잠금 없는 큐에 넣기만 한다
+ *   버려지는 이벤트는 BindingResult 를 읽지도 않는다 ( 문자열을 만들지 않음 )
+ * - 기록 스레드 ( 데몬 ) 하나가 큐를 비우며 문자열을 만들고 로그를 남긴다 -> 느린 appender 가 요청을 붙잡지 않는다
+ * - 로거 이름 : validation.events
+ */
+@Slf4j
+@Component
+public class ValidationEventLogger implements AutoCloseable {
+
+    private static final Logger eventLog = LoggerFactory.getLogger("validation.events");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final ValidationEventProperties properties;
+    private final TokenBucket rateLimit;
+    private final Consumer<String> sink;
+
+    private final ConcurrentLinkedQueue<Event> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final LongAdder logged = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+
+    @Autowired
+    public ValidationEventLogger(ValidationEventProperties properties) {
+        this(properties, eventLog::info);
+    }
+
+    ValidationEventLogger(ValidationEventProperties properties, Consumer<String> sink) {
+        this.properties = properties;
+        this.rateLimit = new TokenBucket(properties.getMaxPerSecond(), properties.getBurst(), System.nanoTime());
+        this.sink = sink;
+        this.writer = new Thread(this::drain, "validation-event-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 검증 실패 기록
+     * @param endpoint 어디서 실패했는지 ( 예: v4.add, api.patch )
+     */
+    public void failed(String endpoint, BindingResult bindingResult) {
+        if (!properties.isEnabled() || !eventLog.isInfoEnabled()) {
+            return;
+        }
+        double sampleRate = properties.getSampleRate();
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            sampledOut.increment();
+            return;
+        }
+        if (rateLimit.tryAcquire(System.nanoTime()) != 0) {
+            rateLimited.increment();
+            return;
+        }
+        if (queued.incrementAndGet() > properties.getQueueCapacity()) {
+            queued.decrementAndGet();
+            queueFull.increment();
+            return;
+        }
+        queue.offer(Event.of(endpoint, bindingResult));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("logged", logged.sum());
+        stats.put("sampledOut", sampledOut.sum());
+        stats.put("rateLimited", rateLimited.sum());
+        stats.put("queueFull", queueFull.sum());
+        stats.put("queued", queued.get());
+        return stats;
+    }
+
+    // 남은 이벤트를 모두 기록하고 기록 스레드를 멈춘다
+    @PreDestroy
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Event event = queue.poll();
+            if (event == null) {
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            queued.decrementAndGet();
+            try {
+                sink.accept(event.format());
+                logged.increment();
+            } catch (RuntimeException e) {
+                log.warn("검증 실패 이벤트 기록 실패", e);
+            }
+        }
+    }
+
+    // 요청 스레드에서는 필요한 값만 배열로 옮겨둔다 ( BindingResult 를 큐에 들고 있지 않는다 )
+    private static final class Event {
+
+        private final String endpoint;
+        private final String objectName;
+        private final String[] fields;
+        private final String[] codes;
+
+        private Event(String endpoint, String objectName, String[] fields, String[] codes) {
+            this.endpoint = endpoint;
+            this.objectName = objectName;
+            this.fields = fields;
+            this.codes = codes;
+        }
+
+        static Event of(String endpoint, BindingResult bindingResult) {
+            List<ObjectError> errors = bindingResult.getAllErrors();
+            String[] fields = new String[errors.size()];
+            String[] codes = new String[errors.size()];
+            for (int i = 0; i < errors.size(); i++) {
+                ObjectError error = errors.get(i);
+                // ObjectError ( 필드 없음 ) 는 "-"
+                fields[i] = error instanceof FieldError ? ((FieldError) error).getField() : "-";
+                // 메시지만 직접 넣은 오류는 코드가 없다
+                codes[i] = error.getCode() != null ? error.getCode() : "-";
+            }
+            return new Event(endpoint, bindingResult.getObjectName(), fields, codes);
+        }
+
+        String format() {
+            StringBuilder sb = new StringBuilder(64 + fields.length * 24);
+            sb.append("endpoint=").append(endpoint)
+                    .append(" object=").append(objectName)
+                    .append(" errors=[");
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(fields[i]).append(':').append(codes[i]);
+            }
+            return sb.append(']').toString();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package hello.itemservice.web.validation.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증 실패 이벤트 로그 설정 ( item.validation-log.* )
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "item.validation-log")
+public class ValidationEventProperties {
+
+    private boolean enabled = true;
+
+    // 남길 비율 ( 0.0 ~ 1.0 )
+    private double sampleRate = 1.0;
+
+    // 초당 최대 기록 수, 순간 허용량 ( 봇 트래픽이 몰려도 이 이상은 버린다 )
+    private double maxPerSecond = 100;
+    private int burst = 200;
+
+    // 기록 스레드가 밀렸을 때 쌓아둘 최대 개수 ( 넘으면 버린다 )
+    private int queueCapacity = 10_000;
+}
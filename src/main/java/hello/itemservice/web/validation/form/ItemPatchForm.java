@@ -0,0 +1,74 @@
+package hello.itemservice.web.validation.form;
+
+import hello.itemservice.web.validation.constraint.ItemEmail;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.validator.constraints.Range;
+
+/**
+ * 부분 수정 ( PATCH ) 폼
+ * - 보낸 필드만 바꾼다. 보내지 않은 필드는 바꾸지 않는다
+ * - 보낸 필드는 ItemSaveFormReader 가 기록한 비트 ( presentFields ) 로 구분한다 -> "보내지 않음" 과 "null 을 보냄" 이 다르다
+ *   email 에 null 을 보내면 지우고, 필수 필드 ( itemName, price, quantity ) 에 null 을 보내면 컨트롤러가 거절한다
+ * - Bean Validation 은 null 을 통과시키므로 보낸 값만 검증된다
+ *   상품명 빈 문자열 / null 확인, 가격 * 수량 규칙은 컨트롤러에서 저장된 값과 합쳐서 확인한다
+ * - 요청 바디는 ItemSaveFormHttpMessageConverter 가 읽으므로 타입 오류는 /add 와 같은 typeMismatch FieldError 가 된다
+ */
+@Getter
+@Setter
+@ToString
+public class ItemPatchForm {
+
+    private String itemName;
+
+    @Range(min = 1000, max = 1000000)
+    private Integer price;
+
+    private Integer quantity;
+
+    @ItemEmail
+    private String email;
+
+    // 바디에 있던 필드 ( ItemSaveFormReader.ITEM_NAME 등의 비트 )
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int presentFields;
+
+    public ItemPatchForm() {
+    }
+
+    public static ItemPatchForm from(ItemSaveFormReader.Result result) {
+        ItemSaveForm form = result.getForm();
+        ItemPatchForm patchForm = new ItemPatchForm();
+        patchForm.setItemName(form.getItemName());
+        patchForm.setPrice(form.getPrice());
+        patchForm.setQuantity(form.getQuantity());
+        patchForm.setEmail(form.getEmail());
+        patchForm.presentFields = result.getPresentFields();
+        return patchForm;
+    }
+
+    // 다른 방법 ( setter ) 으로 채운 폼은 비트가 없으므로 null 이 아닌 값을 보낸 것으로 본다
+    public boolean hasItemName() {
+        return isPresent(ItemSaveFormReader.ITEM_NAME) || itemName != null;
+    }
+
+    public boolean hasPrice() {
+        return isPresent(ItemSaveFormReader.PRICE) || price != null;
+    }
+
+    public boolean hasQuantity() {
+        return isPresent(ItemSaveFormReader.QUANTITY) || quantity != null;
+    }
+
+    public boolean hasEmail() {
+        return isPresent(ItemSaveFormReader.EMAIL) || email != null;
+    }
+
+    private boolean isPresent(int field) {
+        return (presentFields & field) != 0;
+    }
+
+}
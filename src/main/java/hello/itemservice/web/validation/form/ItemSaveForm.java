@@ -1,11 +1,11 @@
 package hello.itemservice.web.validation.form;
 
+import hello.itemservice.web.validation.constraint.ItemEmail;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.validator.constraints.Range;
 
-import javax.validation.constraints.Email;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -26,7 +26,7 @@ public class ItemSaveForm {
     @Max(9999)
     private Integer quantity;
 
-    @Email
+    @ItemEmail
     private String email;
 
     public ItemSaveForm() {
@@ -0,0 +1,24 @@
+package hello.itemservice.web.validation.form;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 요청 바디 ( ItemSaveForm 배열 )
+ * - 원소마다 읽기 중 발견한 타입 오류를 함께 들고 있다 ( ItemSaveFormReader.Result )
+ */
+public class ItemSaveFormBatch {
+
+    private final List<ItemSaveFormReader.Result> entries;
+
+    public ItemSaveFormBatch(List<ItemSaveFormReader.Result> entries) {
+        this.entries = entries;
+    }
+
+    public List<ItemSaveFormReader.Result> getEntries() {
+        return entries;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
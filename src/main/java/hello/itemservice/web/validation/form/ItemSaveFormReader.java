@@ -0,0 +1,233 @@
+package hello.itemservice.web.validation.form;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.beans.TypeMismatchException;
+
+import java.beans.PropertyChangeEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * ItemSaveForm 전용 스트리밍 리더
+ * - ObjectMapper ( 리플렉션, TokenBuffer ) 를 거치지 않고 JsonParser 토큰을 바로 필드에 넣는다
+ * - 타입이 맞지 않는 값은 예외로 요청 전체를 실패시키지 않고 TypeMismatchException 으로 모아서 돌려준다
+ *   -> @ModelAttribute 바인딩과 동일하게 BindingResult 의 typeMismatch 오류로 만들 수 있다
+ * - JsonFactory 를 바꾸면 JSON 이외의 Jackson 포맷도 같은 코드로 읽을 수 있다
+ * - 바디에 있던 필드를 비트로 기록한다 ( 부분 수정에서 "보내지 않음" 과 "null 을 보냄" 을 구분 )
+ */
+public class ItemSaveFormReader {
+
+    // Result.isPresent 에 쓰는 필드 비트
+    public static final int ITEM_NAME = 1;
+    public static final int PRICE = 1 << 1;
+    public static final int QUANTITY = 1 << 2;
+    public static final int EMAIL = 1 << 3;
+
+    private final JsonFactory jsonFactory;
+
+    public ItemSaveFormReader(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public Result read(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "ItemSaveForm 은 객체 형태여야 합니다.");
+            }
+            return readObject(parser);
+        }
+    }
+
+    /**
+     * ItemSaveForm 배열 읽기 ( 일괄 등록 )
+     * - 원소마다 타입 오류를 따로 모은다 ( 한 원소의 타입 오류가 다른 원소에 영향을 주지 않는다 )
+     * - maxItems 를 넘으면 끝까지 읽지 않고 파싱 오류
+     */
+    public List<Result> readAll(InputStream in, int maxItems) throws IOException {
+        return readAll(in, maxItems, index -> {
+        });
+    }
+
+    /**
+     * @param beforeElement 원소를 읽기 전에 원소 번호 ( 0 부터 ) 로 호출된다. 예외를 던지면 나머지를 읽지 않고 멈춘다
+     */
+    public List<Result> readAll(InputStream in, int maxItems, IntConsumer beforeElement) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "ItemSaveForm 목록은 배열 형태여야 합니다.");
+            }
+            List<Result> results = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                if (results.size() == maxItems) {
+                    throw new JsonParseException(parser, "ItemSaveForm 목록은 최대 " + maxItems + "개까지 허용합니다.");
+                }
+                beforeElement.accept(results.size());
+                results.add(readObject(parser));
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "ItemSaveForm 목록의 원소는 객체 형태여야 합니다.");
+            }
+            return results;
+        }
+    }
+
+    private Result readObject(JsonParser parser) throws IOException {
+        ItemSaveForm form = new ItemSaveForm();
+        List<TypeMismatchException> typeMismatches = null;
+        // 값을 받아들인 필드 ( null 포함, 타입 오류는 제외 )
+        int presentFields = 0;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (field) {
+                case "itemName":
+                    if (isText(valueToken)) {
+                        form.setItemName(valueToken == JsonToken.VALUE_NULL ? null : parser.getText());
+                        presentFields |= ITEM_NAME;
+                    } else {
+                        typeMismatches = reject(typeMismatches, form, field, parser, String.class);
+                    }
+                    break;
+                case "email":
+                    if (isText(valueToken)) {
+                        form.setEmail(valueToken == JsonToken.VALUE_NULL ? null : parser.getText());
+                        presentFields |= EMAIL;
+                    } else {
+                        typeMismatches = reject(typeMismatches, form, field, parser, String.class);
+                    }
+                    break;
+                case "price":
+                    if (isInteger(parser, valueToken)) {
+                        form.setPrice(toInteger(parser, valueToken));
+                        presentFields |= PRICE;
+                    } else {
+                        typeMismatches = reject(typeMismatches, form, field, parser, Integer.class);
+                    }
+                    break;
+                case "quantity":
+                    if (isInteger(parser, valueToken)) {
+                        form.setQuantity(toInteger(parser, valueToken));
+                        presentFields |= QUANTITY;
+                    } else {
+                        typeMismatches = reject(typeMismatches, form, field, parser, Integer.class);
+                    }
+                    break;
+                default:
+                    // 모르는 필드는 무시한다 ( 스프링 부트 ObjectMapper 기본 설정과 동일 )
+                    parser.skipChildren();
+            }
+        }
+
+        if (token != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "ItemSaveForm 객체가 올바르게 끝나지 않았습니다.");
+        }
+        return new Result(form, typeMismatches == null ? Collections.emptyList() : typeMismatches, presentFields);
+    }
+
+    // 문자열 필드 : Jackson 기본 동작처럼 숫자, 불리언 같은 스칼라 값은 문자열로 받아준다
+    private static boolean isText(JsonToken token) {
+        return token.isScalarValue() || token == JsonToken.VALUE_NULL;
+    }
+
+    // 숫자 필드 : int 범위의 숫자, 숫자로 읽히는 문자열, 빈 문자열(null), null 만 허용
+    private static boolean isInteger(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NULL:
+                return true;
+            case VALUE_NUMBER_INT:
+                return parser.getNumberType() == JsonParser.NumberType.INT;
+            case VALUE_NUMBER_FLOAT:
+                double value = parser.getDoubleValue();
+                return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return true;
+                }
+                try {
+                    Integer.parseInt(text);
+                    return true;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            default:
+                return false;
+        }
+    }
+
+    private static Integer toInteger(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NUMBER_INT:
+                return parser.getIntValue();
+            case VALUE_NUMBER_FLOAT:
+                return (int) parser.getDoubleValue();
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                return text.isEmpty() ? null : Integer.valueOf(text);
+            default:
+                return null;
+        }
+    }
+
+    private static List<TypeMismatchException> reject(List<TypeMismatchException> typeMismatches, ItemSaveForm form,
+                                                      String field, JsonParser parser, Class<?> requiredType) throws IOException {
+        // 객체나 배열은 통째로 건너뛰고, 거절값은 스칼라일 때만 남긴다
+        Object rejectedValue = parser.currentToken().isScalarValue() ? parser.getText() : null;
+        parser.skipChildren();
+
+        if (typeMismatches == null) {
+            typeMismatches = new ArrayList<>(2);
+        }
+        typeMismatches.add(new TypeMismatchException(new PropertyChangeEvent(form, field, null, rejectedValue), requiredType));
+        return typeMismatches;
+    }
+
+    /**
+     * 읽기 결과 - 폼 객체, 타입 오류 목록, 바디에 있던 필드
+     */
+    public static class Result {
+
+        private final ItemSaveForm form;
+        private final List<TypeMismatchException> typeMismatches;
+        private final int presentFields;
+
+        Result(ItemSaveForm form, List<TypeMismatchException> typeMismatches, int presentFields) {
+            this.form = form;
+            this.typeMismatches = typeMismatches;
+            this.presentFields = presentFields;
+        }
+
+        public ItemSaveForm getForm() {
+            return form;
+        }
+
+        public List<TypeMismatchException> getTypeMismatches() {
+            return typeMismatches;
+        }
+
+        public boolean hasTypeMismatches() {
+            return !typeMismatches.isEmpty();
+        }
+
+        public int getPresentFields() {
+            return presentFields;
+        }
+
+        /**
+         * @param field ITEM_NAME, PRICE, QUANTITY, EMAIL
+         */
+        public boolean isPresent(int field) {
+            return (presentFields & field) != 0;
+        }
+    }
+}
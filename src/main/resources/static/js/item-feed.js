@@ -0,0 +1,59 @@
+/*
+ * 상품 목록 실시간 갱신
+ * - /validation/items/changes ( SSE ) 를 구독해서 저장/수정된 행만 바꾼다
+ * - 표의 data-feed-url, data-feed-from ( 렌더링 시점의 피드 위치 ), data-item-base ( 상세 화면 경로 ) 를 사용한다
+ * - resync ( 너무 뒤처짐 ), cleared ( 저장소 초기화 ) 를 받으면 화면을 다시 불러온다
+ */
+(function () {
+    var table = document.querySelector('table[data-feed-url]');
+    if (!table || !window.EventSource) {
+        return;
+    }
+    var tbody = table.tBodies[0];
+    var columns = table.tHead.rows[0].cells.length;
+    var itemBase = table.getAttribute('data-item-base');
+    var url = table.getAttribute('data-feed-url') + '?from=' + encodeURIComponent(table.getAttribute('data-feed-from'));
+    var source = new EventSource(url);
+
+    function link(item, text) {
+        var a = document.createElement('a');
+        a.href = itemBase + '/' + item.id;
+        a.textContent = text;
+        return a;
+    }
+
+    function render(row, item) {
+        var values = [link(item, item.id), link(item, item.itemName), item.price, item.quantity, item.email];
+        while (row.cells.length > 0) {
+            row.deleteCell(0);
+        }
+        for (var i = 0; i < columns && i < values.length; i++) {
+            var cell = row.insertCell(-1);
+            if (values[i] instanceof Node) {
+                cell.appendChild(values[i]);
+            } else {
+                cell.textContent = values[i] == null ? '' : values[i];
+            }
+        }
+    }
+
+    function upsert(event) {
+        var item = JSON.parse(event.data).item;
+        var row = tbody.querySelector('tr[data-item-id="' + item.id + '"]');
+        if (!row) {
+            row = tbody.insertRow(-1);
+            row.setAttribute('data-item-id', item.id);
+        }
+        render(row, item);
+    }
+
+    function reload() {
+        source.close();
+        location.reload();
+    }
+
+    source.addEventListener('saved', upsert);
+    source.addEventListener('updated', upsert);
+    source.addEventListener('cleared', reload);
+    source.addEventListener('resync', reload);
+})();
@@ -0,0 +1,155 @@
+package hello.itemservice.domain.item;
+
+import hello.itemservice.domain.item.id.LocalIdAllocator;
+import hello.itemservice.domain.item.store.SnapshotItemStore;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CatalogStatisticsTest {
+
+    CatalogStatistics statistics = new CatalogStatistics();
+    ItemRepository itemRepository = new ItemRepository(new LocalIdAllocator(), new SnapshotItemStore(), List.of(statistics));
+
+    @Test
+    void 비어있으면_가격_통계는_없다() {
+        CatalogStatistics.Summary summary = statistics.summary();
+
+        assertThat(summary.getItemCount()).isZero();
+        assertThat(summary.getTotalInventoryValue()).isEqualTo(BigInteger.ZERO);
+        assertThat(summary.getMinPrice()).isNull();
+        assertThat(summary.getMaxPrice()).isNull();
+        assertThat(summary.getAveragePrice()).isNull();
+    }
+
+    @Test
+    void 무작위_저장_수정_후_전체_재계산과_같다() {
+        Random random = new Random(7);
+        List<Long> ids = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            if (ids.isEmpty() || random.nextInt(3) > 0) {
+                ids.add(itemRepository.save(randomItem(random)).getId());
+            } else {
+                itemRepository.update(ids.get(random.nextInt(ids.size())), randomItem(random));
+            }
+        }
+
+        assertMatchesRecompute();
+    }
+
+    @Test
+    void 재고_금액_합계는_long_을_넘어도_정확하다() {
+        for (int i = 0; i < 10; i++) {
+            itemRepository.save(new Item("item", Integer.MAX_VALUE, Integer.MAX_VALUE));
+        }
+
+        BigInteger expected = BigInteger.valueOf(Integer.MAX_VALUE).pow(2).multiply(BigInteger.TEN);
+        assertThat(expected).isGreaterThan(BigInteger.valueOf(Long.MAX_VALUE));
+        assertThat(statistics.summary().getTotalInventoryValue()).isEqualTo(expected);
+    }
+
+    @Test
+    void 최소_최대_가격_상품이_바뀌면_다음_가격으로_바뀐다() {
+        Long cheap = itemRepository.save(new Item("cheap", 1000, 10)).getId();
+        itemRepository.save(new Item("middle", 5000, 10));
+        Long expensive = itemRepository.save(new Item("expensive", 9000, 10)).getId();
+
+        itemRepository.update(cheap, new Item("cheap", 3000, 10));
+        itemRepository.update(expensive, new Item("expensive", 4000, 10));
+
+        CatalogStatistics.Summary summary = statistics.summary();
+        assertThat(summary.getMinPrice()).isEqualTo(3000);
+        assertThat(summary.getMaxPrice()).isEqualTo(5000);
+        assertThat(summary.getAveragePrice()).isEqualTo(4000.0);
+    }
+
+    @Test
+    void 초기화하면_집계도_비운다() {
+        itemRepository.save(new Item("item", 1000, 10));
+
+        itemRepository.clearStore();
+
+        assertThat(statistics.summary().getItemCount()).isZero();
+        assertThat(statistics.summary().getMinPrice()).isNull();
+    }
+
+    @Test
+    void 동시에_저장_수정해도_전체_재계산과_같다() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    List<Long> ids = new ArrayList<>();
+                    start.await();
+                    for (int i = 0; i < 5_000; i++) {
+                        if (ids.isEmpty() || random.nextBoolean()) {
+                            ids.add(itemRepository.save(randomItem(random)).getId());
+                        } else {
+                            itemRepository.update(ids.get(random.nextInt(ids.size())), randomItem(random));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertMatchesRecompute();
+    }
+
+    private void assertMatchesRecompute() {
+        List<Item> items = itemRepository.findAll();
+        BigInteger inventoryValue = BigInteger.ZERO;
+        long priced = 0;
+        long priceSum = 0;
+        Integer min = null;
+        Integer max = null;
+        for (Item item : items) {
+            if (item.getPrice() != null && item.getQuantity() != null) {
+                inventoryValue = inventoryValue.add(BigInteger.valueOf(item.getPrice()).multiply(BigInteger.valueOf(item.getQuantity())));
+            }
+            if (item.getPrice() != null) {
+                priced++;
+                priceSum += item.getPrice();
+                min = min == null ? item.getPrice() : Math.min(min, item.getPrice());
+                max = max == null ? item.getPrice() : Math.max(max, item.getPrice());
+            }
+        }
+
+        CatalogStatistics.Summary summary = statistics.summary();
+        assertThat(summary.getItemCount()).isEqualTo(items.size());
+        assertThat(summary.getTotalInventoryValue()).isEqualTo(inventoryValue);
+        assertThat(summary.getPricedItemCount()).isEqualTo(priced);
+        assertThat(summary.getMinPrice()).isEqualTo(min);
+        assertThat(summary.getMaxPrice()).isEqualTo(max);
+        assertThat(summary.getAveragePrice()).isEqualTo((double) priceSum / priced);
+    }
+
+    // 가격/수량이 없는 상품, 아주 큰 값도 섞는다
+    private static Item randomItem(Random random) {
+        Integer price = random.nextInt(20) == 0 ? null : random.nextInt(10) == 0 ? Integer.MAX_VALUE - random.nextInt(100) : 1000 + random.nextInt(1_000_000);
+        Integer quantity = random.nextInt(20) == 0 ? null : 1 + random.nextInt(9999);
+        return new Item("item", price, quantity);
+    }
+}
@@ -0,0 +1,212 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ItemRepository 동시성 스트레스 테스트
+ * - 여러 스레드가 save / update / findById / findAll 을 동시에 호출할 때
+ *   id 중복/누락, 수정 유실, 일부 필드만 바뀐 상품 조회, 반복 중 예외가 없는지 확인한다
+ * - 작업 조합별 처리량 ( ops/sec ) 을 출력한다
+ */
+class ItemRepositoryConcurrencyTest {
+
+    static final int THREADS = 8;
+    static final int ITERATIONS = 20_000;
+
+    ItemRepository itemRepository = new ItemRepository();
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void 동시_저장시_id_는_중복이나_누락이_없다() throws Exception {
+        ConcurrentLinkedQueue<Long> ids = new ConcurrentLinkedQueue<>();
+
+        long elapsed = runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                ids.add(itemRepository.save(new Item("item", 10000, 10)).getId());
+            }
+        });
+        report("save", THREADS * ITERATIONS, elapsed);
+
+        Set<Long> uniqueIds = new HashSet<>(ids);
+        assertThat(uniqueIds).hasSize(THREADS * ITERATIONS);
+        assertThat(uniqueIds).allMatch(id -> id >= 1 && id <= THREADS * ITERATIONS);
+        assertThat(itemRepository.findAll()).hasSize(THREADS * ITERATIONS);
+    }
+
+    @Test
+    void 동시_대량저장과_저장이_섞여도_id_가_겹치지_않는다() throws Exception {
+        int batch = 100;
+
+        runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < ITERATIONS / batch; i++) {
+                if (thread % 2 == 0) {
+                    List<Item> items = new ArrayList<>(batch);
+                    for (int j = 0; j < batch; j++) {
+                        items.add(new Item("item", 10000, 10));
+                    }
+                    itemRepository.saveAll(items);
+                } else {
+                    for (int j = 0; j < batch; j++) {
+                        itemRepository.save(new Item("item", 10000, 10));
+                    }
+                }
+            }
+        });
+
+        List<Item> items = itemRepository.findAll();
+        assertThat(items).hasSize(THREADS * ITERATIONS);
+        assertThat(items).extracting(Item::getId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void 수정중인_상품을_읽어도_일부_필드만_바뀐_상태는_보이지_않는다() throws Exception {
+        Long itemId = itemRepository.save(consistentItem(0)).getId();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong tornReads = new AtomicLong();
+        AtomicLong reads = new AtomicLong();
+
+        long elapsed = runConcurrently(THREADS, thread -> {
+            if (thread < THREADS / 2) {
+                // 쓰기 스레드 : 모든 필드가 같은 값 k 에서 나온 상품으로 수정
+                for (int k = 1; k <= ITERATIONS; k++) {
+                    itemRepository.update(itemId, consistentItem(thread * ITERATIONS + k));
+                }
+                running.set(false);
+            } else {
+                // 읽기 스레드 : 필드 값이 서로 맞는지 확인
+                while (running.get()) {
+                    Item item = itemRepository.findById(itemId);
+                    reads.incrementAndGet();
+                    if (!isConsistent(item)) {
+                        tornReads.incrementAndGet();
+                    }
+                }
+            }
+        });
+        report("update/findById", (THREADS / 2) * ITERATIONS + reads.get(), elapsed);
+
+        assertThat(tornReads.get()).isZero();
+    }
+
+    @Test
+    void 서로_다른_상품의_동시_수정은_유실되지_않는다() throws Exception {
+        List<Long> itemIds = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            itemIds.add(itemRepository.save(consistentItem(0)).getId());
+        }
+
+        runConcurrently(THREADS, thread -> {
+            Long itemId = itemIds.get(thread);
+            for (int k = 1; k <= ITERATIONS; k++) {
+                itemRepository.update(itemId, consistentItem(k));
+            }
+        });
+
+        for (Long itemId : itemIds) {
+            Item item = itemRepository.findById(itemId);
+            assertThat(item.getId()).isEqualTo(itemId);
+            assertThat(item.getPrice()).isEqualTo(ITERATIONS);
+            assertThat(isConsistent(item)).isTrue();
+        }
+    }
+
+    @Test
+    void 저장_수정_중에_findAll_을_반복해도_예외가_없다() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            itemRepository.save(consistentItem(i));
+        }
+        AtomicLong findAllCalls = new AtomicLong();
+
+        long elapsed = runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < ITERATIONS / 10; i++) {
+                switch (thread % 3) {
+                    case 0:
+                        itemRepository.save(consistentItem(i));
+                        break;
+                    case 1:
+                        itemRepository.update((long) (i % 100) + 1, consistentItem(i));
+                        break;
+                    default:
+                        for (Item item : itemRepository.findAll()) {
+                            assertThat(item.getId()).isNotNull();
+                            assertThat(isConsistent(item)).isTrue();
+                        }
+                        findAllCalls.incrementAndGet();
+                }
+            }
+        });
+        report("save/update/findAll", (long) THREADS * (ITERATIONS / 10), elapsed);
+
+        assertThat(findAllCalls.get()).isPositive();
+    }
+
+    private Item consistentItem(int k) {
+        Item item = new Item("item" + k, k, k);
+        item.setEmail(k + "@example.com");
+        return item;
+    }
+
+    private boolean isConsistent(Item item) {
+        int k = item.getPrice();
+        return item.getItemName().equals("item" + k)
+                && item.getQuantity() == k
+                && item.getEmail().equals(k + "@example.com");
+    }
+
+    interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+
+    // 모든 스레드를 동시에 출발시키고 끝날 때까지 걸린 시간을 반환한다. 스레드에서 발생한 예외(검증 실패 포함)는 다시 던진다
+    private long runConcurrently(int threads, ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+            return System.nanoTime() - begin;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void report(String mix, long operations, long elapsedNanos) {
+        double opsPerSecond = operations / (elapsedNanos / 1_000_000_000.0);
+        System.out.printf("[ItemRepository] %-20s threads=%d ops=%d ops/sec=%,.0f%n", mix, THREADS, operations, opsPerSecond);
+    }
+}
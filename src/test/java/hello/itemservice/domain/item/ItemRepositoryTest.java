@@ -1,9 +1,12 @@
 package hello.itemservice.domain.item;
 
+import hello.itemservice.domain.item.id.LocalIdAllocator;
+import hello.itemservice.domain.item.store.SnapshotItemStore;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -65,4 +68,82 @@ class ItemRepositoryTest {
         assertThat(findItem.getPrice()).isEqualTo(updateParam.getPrice());
         assertThat(findItem.getQuantity()).isEqualTo(updateParam.getQuantity());
     }
+
+    @Test
+    void 같은_값으로_수정하면_변경_알림이_없다() {
+        AtomicInteger changes = new AtomicInteger();
+        ItemRepository repository = new ItemRepository(new LocalIdAllocator(), new SnapshotItemStore(),
+                List.of((before, after) -> changes.incrementAndGet()));
+        Item savedItem = repository.save(new Item("item1", 10000, 10));
+        Item stored = repository.findById(savedItem.getId());
+
+        repository.update(savedItem.getId(), new Item("item1", 10000, 10));
+
+        assertThat(changes.get()).isEqualTo(1);
+        assertThat(repository.findById(savedItem.getId())).isEqualTo(stored);
+    }
+
+    @Test
+    void patch() {
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Item findItem = itemRepository.findById(savedItem.getId());
+
+        Item patched = new Item("item1", 20000, 10);
+        patched.setId(savedItem.getId());
+        ItemRepository.PatchResult result = itemRepository.patch(savedItem.getId(), findItem, patched);
+
+        assertThat(result).isEqualTo(ItemRepository.PatchResult.UPDATED);
+        assertThat(itemRepository.findById(savedItem.getId()).getPrice()).isEqualTo(20000);
+    }
+
+    @Test
+    void patch_값이_같으면_UNCHANGED() {
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Item findItem = itemRepository.findById(savedItem.getId());
+
+        ItemRepository.PatchResult result = itemRepository.patch(savedItem.getId(), findItem, findItem);
+
+        assertThat(result).isEqualTo(ItemRepository.PatchResult.UNCHANGED);
+        assertThat(itemRepository.findById(savedItem.getId())).isEqualTo(findItem);
+    }
+
+    @Test
+    void patch_검증한_뒤_다른_수정이_있으면_CONFLICT() {
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Item findItem = itemRepository.findById(savedItem.getId());
+        itemRepository.update(savedItem.getId(), new Item("item1", 10000, 1));
+
+        Item patched = new Item("item1", 1000, 10);
+        patched.setId(savedItem.getId());
+        ItemRepository.PatchResult result = itemRepository.patch(savedItem.getId(), findItem, patched);
+
+        assertThat(result).isEqualTo(ItemRepository.PatchResult.CONFLICT);
+        assertThat(itemRepository.findById(savedItem.getId()).getQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    void patch_없는_상품은_NOT_FOUND() {
+        Item patched = new Item("item1", 10000, 10);
+
+        assertThat(itemRepository.patch(999L, patched, patched)).isEqualTo(ItemRepository.PatchResult.NOT_FOUND);
+    }
+
+    @Test
+    void 조회한_상품을_바꿔도_저장된_상품은_그대로() {
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+
+        itemRepository.findById(savedItem.getId()).setPrice(1);
+        itemRepository.findAll().get(0).setQuantity(1);
+        itemRepository.findAll().forEach(item -> item.setItemName("changed"));
+
+        Item findItem = itemRepository.findById(savedItem.getId());
+        assertThat(findItem.getItemName()).isEqualTo("item1");
+        assertThat(findItem.getPrice()).isEqualTo(10000);
+        assertThat(findItem.getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    void id_가_null_이면_null() {
+        assertThat(itemRepository.findById(null)).isNull();
+    }
 }
@@ -0,0 +1,96 @@
+package hello.itemservice.domain.item.id;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HiLoIdAllocatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 파일_발급처는_겹치지_않는_연속_블록을_빌려준다() {
+        FileLockIdBlockSource source = new FileLockIdBlockSource(tempDir.resolve("item-id.seq"));
+
+        assertThat(source.leaseBlock(10)).isEqualTo(1);
+        assertThat(source.leaseBlock(10)).isEqualTo(11);
+        assertThat(source.leaseBlock(5)).isEqualTo(21);
+    }
+
+    @Test
+    void 재시작해도_이미_빌려준_블록은_다시_빌려주지_않는다() {
+        Path file = tempDir.resolve("item-id.seq");
+        new FileLockIdBlockSource(file).leaseBlock(100);
+
+        assertThat(new FileLockIdBlockSource(file).leaseBlock(100)).isEqualTo(101);
+    }
+
+    @Test
+    void 블록_안에서는_발급처를_다시_호출하지_않는다() {
+        AtomicInteger leases = new AtomicInteger();
+        IdBlockSource source = blockSize -> (long) leases.getAndIncrement() * blockSize + 1;
+        HiLoIdAllocator allocator = new HiLoIdAllocator(source, 100);
+
+        for (int i = 1; i <= 250; i++) {
+            assertThat(allocator.nextId()).isEqualTo(i);
+        }
+        assertThat(leases.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 여러_인스턴스가_같은_파일을_써도_id_가_겹치지_않는다() throws Exception {
+        // 인스턴스마다 발급처와 발급기를 따로 만들어서 여러 노드를 흉내낸다
+        int nodes = 4;
+        int threadsPerNode = 4;
+        int idsPerThread = 5_000;
+        Path file = tempDir.resolve("item-id.seq");
+        List<HiLoIdAllocator> allocators = new ArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            allocators.add(new HiLoIdAllocator(new FileLockIdBlockSource(file), 64));
+        }
+
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(nodes * threadsPerNode);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (HiLoIdAllocator allocator : allocators) {
+                for (int t = 0; t < threadsPerNode; t++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < idsPerThread; i++) {
+                            if (!ids.add(allocator.nextId())) {
+                                duplicates.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(duplicates.get()).isZero();
+        assertThat(ids).hasSize(nodes * threadsPerNode * idsPerThread);
+    }
+}
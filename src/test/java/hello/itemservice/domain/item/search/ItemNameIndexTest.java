@@ -0,0 +1,128 @@
+package hello.itemservice.domain.item.search;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.id.LocalIdAllocator;
+import hello.itemservice.domain.item.store.SnapshotItemStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemNameIndexTest {
+
+    ItemNameIndex itemNameIndex = new ItemNameIndex();
+    ItemRepository itemRepository = new ItemRepository(new LocalIdAllocator(), new SnapshotItemStore(), List.of(itemNameIndex));
+    ItemSearchService itemSearchService = new ItemSearchService(itemNameIndex, itemRepository);
+
+    @Test
+    void 상품명의_일부로_검색한다() {
+        Item itemA = itemRepository.save(new Item("itemA", 10000, 10));
+        Item itemB = itemRepository.save(new Item("itemB", 10000, 10));
+        Item notebook = itemRepository.save(new Item("게이밍 노트북", 10000, 10));
+        Item bag = itemRepository.save(new Item("노트북 가방", 10000, 10));
+
+        assertThat(names(itemSearchService.search("itemA", 10))).containsExactly(itemA.getItemName());
+        assertThat(names(itemSearchService.search("ITEM", 10))).containsExactly(itemA.getItemName(), itemB.getItemName());
+        assertThat(names(itemSearchService.search("노트북", 10))).containsExactly(notebook.getItemName(), bag.getItemName());
+        assertThat(names(itemSearchService.search("가", 10))).containsExactly(bag.getItemName());
+        assertThat(itemSearchService.search("키보드", 10)).isEmpty();
+        assertThat(itemSearchService.search("", 10)).isEmpty();
+    }
+
+    @Test
+    void bigram_이_모두_있어도_이어지지_않으면_결과에서_뺀다() {
+        // "abcab" 는 검색어 "abca" 의 bigram ( ab, bc, ca ) 을 모두 갖고 검색어도 들어있다
+        // "cabc" 는 bigram ( ab, bc, ca ) 을 모두 갖지만 "abca" 는 없다
+        Item match = itemRepository.save(new Item("abcab", 10000, 10));
+        itemRepository.save(new Item("cabc", 10000, 10));
+
+        assertThat(itemSearchService.search("abca", 10)).containsExactly(match);
+    }
+
+    @Test
+    void 상품명을_수정하면_예전_이름으로는_검색되지_않는다() {
+        Item item = itemRepository.save(new Item("모니터", 10000, 10));
+
+        itemRepository.update(item.getId(), new Item("스피커", 10000, 10));
+
+        assertThat(itemSearchService.search("모니터", 10)).isEmpty();
+        assertThat(names(itemSearchService.search("스피", 10))).containsExactly("스피커");
+    }
+
+    @Test
+    void 최대_개수만큼만_id_오름차순으로_돌려준다() {
+        for (int i = 0; i < 50; i++) {
+            itemRepository.save(new Item("item-" + i, 10000, 10));
+        }
+
+        List<Item> result = itemSearchService.search("item", 10);
+
+        assertThat(result).hasSize(10);
+        assertThat(result).extracting(Item::getId).isSorted();
+        assertThat(result.get(0).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void 무작위_상품명에서_선형_검색과_결과가_같다() {
+        Random random = new Random(3);
+        String alphabet = "abc노트북-1";
+        for (int i = 0; i < 5_000; i++) {
+            Item item = itemRepository.save(new Item(randomName(random, alphabet), 10000, 10));
+            if (random.nextInt(4) == 0) {
+                itemRepository.update(item.getId(), new Item(randomName(random, alphabet), 10000, 10));
+            }
+        }
+
+        for (int q = 0; q < 200; q++) {
+            String query = randomName(random, alphabet).substring(0, 1 + random.nextInt(3));
+            List<Long> expected = itemRepository.findAll().stream()
+                    .filter(item -> item.getItemName().toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT)))
+                    .map(Item::getId)
+                    .collect(Collectors.toList());
+
+            assertThat(itemSearchService.search(query, Integer.MAX_VALUE)).extracting(Item::getId)
+                    .as("query=%s", query)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void id_집합은_페이지를_건너뛰어도_교집합이_정확하다() {
+        IdBitmap evens = new IdBitmap();
+        IdBitmap thousands = new IdBitmap();
+        for (long id = 0; id < 100_000; id += 2) {
+            evens.add(id);
+        }
+        for (long id = 0; id < 100_000; id += 1000) {
+            thousands.add(id);
+        }
+        thousands.add(5_000_000_001L);
+        thousands.remove(2000);
+
+        List<Long> result = new ArrayList<>();
+        IdBitmap.intersect(new IdBitmap[]{evens, thousands}, result::add);
+
+        assertThat(result).hasSize(99);
+        assertThat(result).doesNotContain(2000L);
+        assertThat(thousands.contains(5_000_000_001L)).isTrue();
+    }
+
+    private static List<String> names(List<Item> items) {
+        return items.stream().map(Item::getItemName).collect(Collectors.toList());
+    }
+
+    private static String randomName(Random random, String alphabet) {
+        int length = 3 + random.nextInt(6);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,193 @@
+package hello.itemservice.domain.item.store;
+
+import hello.itemservice.domain.item.Item;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SnapshotItemStoreTest {
+
+    SnapshotItemStore store = new SnapshotItemStore();
+
+    @Test
+    void 무작위_저장_수정_삭제_결과가_TreeMap_과_같다() {
+        Random random = new Random(42);
+        TreeMap<Long, Item> expected = new TreeMap<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            // 작은 id 위주로, 가끔 아주 큰 id ( 트라이 높이 증가 )
+            long id = random.nextInt(10) == 0 ? Math.abs(random.nextLong()) : random.nextInt(5_000) + 1;
+            if (random.nextInt(5) == 0) {
+                store.compute(id, (key, item) -> null);
+                expected.remove(id);
+            } else {
+                Item item = item(id, "item" + i);
+                store.compute(id, (key, before) -> item);
+                expected.put(id, item);
+            }
+        }
+
+        assertThat(store.size()).isEqualTo(expected.size());
+        assertThat(store.values()).containsExactlyElementsOf(expected.values());
+        for (Map.Entry<Long, Item> entry : expected.entrySet()) {
+            assertThat(store.get(entry.getKey())).isSameAs(entry.getValue());
+        }
+
+        // get(index) 도 오름차순
+        List<Item> values = store.values();
+        List<Item> expectedValues = new ArrayList<>(expected.values());
+        for (int i = 0; i < expectedValues.size(); i += 97) {
+            assertThat(values.get(i)).isSameAs(expectedValues.get(i));
+        }
+    }
+
+    @Test
+    void 가장_큰_id_도_저장할_수_있다() {
+        store.compute(Long.MAX_VALUE, (key, item) -> item(key, "max"));
+        store.compute(1L, (key, item) -> item(key, "min"));
+
+        assertThat(store.get(Long.MAX_VALUE).getItemName()).isEqualTo("max");
+        assertThat(store.values()).extracting(Item::getItemName).containsExactly("min", "max");
+    }
+
+    @Test
+    void 먼저_받은_스냅샷은_이후의_변경을_보지_않는다() {
+        for (long id = 1; id <= 100; id++) {
+            long itemId = id;
+            store.compute(id, (key, item) -> item(itemId, "before"));
+        }
+
+        List<Item> snapshot = store.values();
+        store.compute(50L, (key, item) -> item(key, "after"));
+        store.compute(101L, (key, item) -> item(key, "after"));
+        store.compute(1L, (key, item) -> null);
+        store.clear();
+
+        assertThat(snapshot).hasSize(100);
+        assertThat(snapshot).allMatch(item -> item.getItemName().equals("before"));
+        assertThat(store.values()).isEmpty();
+    }
+
+    @Test
+    void 변경이_없으면_루트를_바꾸지_않는다() {
+        store.compute(1L, (key, item) -> item(key, "item"));
+        List<Item> before = store.values();
+
+        store.computeIfPresent(2L, (key, item) -> item(key, "absent"));
+        store.compute(1L, (key, item) -> item);
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.values()).containsExactlyElementsOf(before);
+        assertThat(store.get(2L)).isNull();
+    }
+
+    @Test
+    void 쓰는_도중에_읽는_스냅샷은_항상_일관된다() throws Exception {
+        int writers = 4;
+        int readers = 4;
+        int perWriter = 10_000;
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> writerFutures = new ArrayList<>();
+            List<Future<?>> readerFutures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                long base = (long) w * perWriter;
+                writerFutures.add(executor.submit(() -> {
+                    start.await();
+                    for (long k = 1; k <= perWriter; k++) {
+                        long id = base + k;
+                        store.compute(id, (key, item) -> item(key, "item" + key));
+                    }
+                    return null;
+                }));
+            }
+            for (int r = 0; r < readers; r++) {
+                readerFutures.add(executor.submit(() -> {
+                    start.await();
+                    while (running.get()) {
+                        List<Item> snapshot = store.values();
+                        int size = snapshot.size();
+                        int count = 0;
+                        long previousId = 0;
+                        for (Iterator<Item> it = snapshot.iterator(); it.hasNext(); count++) {
+                            Item item = it.next();
+                            assertThat(item.getId()).isGreaterThan(previousId);
+                            assertThat(item.getItemName()).isEqualTo("item" + item.getId());
+                            previousId = item.getId();
+                        }
+                        assertThat(count).isEqualTo(size);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : writerFutures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+            running.set(false);
+            for (Future<?> future : readerFutures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(store.size()).isEqualTo(writers * perWriter);
+    }
+
+    @Test
+    void 같은_id_를_동시에_바꿔도_변경이_사라지지_않는다() throws Exception {
+        int threads = 4;
+        int perThread = 10_000;
+        store.compute(1L, (key, item) -> quantity(key, 0));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        store.compute(1L, (key, item) -> quantity(key, item.getQuantity() + 1));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(store.get(1L).getQuantity()).isEqualTo(threads * perThread);
+    }
+
+    private Item quantity(long id, int quantity) {
+        Item item = new Item("item", 10000, quantity);
+        item.setId(id);
+        return item;
+    }
+
+    private Item item(long id, String itemName) {
+        Item item = new Item(itemName, 10000, 10);
+        item.setId(id);
+        return item;
+    }
+}
@@ -0,0 +1,172 @@
+package hello.itemservice.domain.item.store;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.id.LocalIdAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TieredItemStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    TieredItemStore store;
+    ItemRepository itemRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        // 작은 chunk 로 chunk 경계 처리까지 확인한다
+        store = new TieredItemStore(10, 0.8, tempDir.resolve("item-cold.seg"), 4096, 0.5);
+        itemRepository = new ItemRepository(new LocalIdAllocator(), store, List.of());
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        store.close();
+    }
+
+    @Test
+    void hot_영역을_넘는_상품은_디스크로_내리고_조회시_다시_올린다() {
+        List<Item> saved = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Item item = new Item("상품" + i, 1000 + i, i);
+            item.setEmail(i % 2 == 0 ? "item" + i + "@example.com" : null);
+            saved.add(itemRepository.save(item));
+        }
+
+        Map<String, Object> stats = store.stats();
+        assertThat(stats.get("hotItems")).isEqualTo(10);
+        assertThat(stats.get("coldItems")).isEqualTo(90);
+        assertThat(stats.get("spills")).isEqualTo(90L);
+        assertThat(itemRepository.count()).isEqualTo(100);
+
+        for (Item item : saved) {
+            assertThat(itemRepository.findById(item.getId())).isEqualTo(item);
+        }
+        assertThat(itemRepository.findAll()).containsExactlyElementsOf(saved);
+        assertThat((long) store.stats().get("coldHits")).isPositive();
+    }
+
+    @Test
+    void 디스크에_있는_상품을_수정하면_수정한_값이_조회된다() {
+        Item first = itemRepository.save(new Item("itemA", 10000, 10));
+        for (int i = 0; i < 20; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+        assertThat(store.stats().get("coldItems")).isNotEqualTo(0);
+
+        itemRepository.update(first.getId(), new Item("itemB", 20000, 20));
+        for (int i = 0; i < 20; i++) {
+            itemRepository.save(new Item("more" + i, 10000, 10));
+        }
+
+        Item found = itemRepository.findById(first.getId());
+        assertThat(found.getItemName()).isEqualTo("itemB");
+        assertThat(found.getPrice()).isEqualTo(20000);
+        assertThat((long) store.stats().get("segmentDeadBytes")).isPositive();
+    }
+
+    @Test
+    void 쓰지_않는_레코드가_많아지면_세그먼트를_압축한다() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(itemRepository.save(new Item("item" + i, i, 0)).getId());
+        }
+        for (int round = 1; round <= 5; round++) {
+            for (int i = 0; i < ids.size(); i++) {
+                itemRepository.update(ids.get(i), new Item("item" + i, i, round));
+            }
+        }
+
+        Map<String, Object> stats = store.stats();
+        assertThat((long) stats.get("compactions")).isPositive();
+        // 압축하지 않으면 쓰지 않는 레코드가 살아 있는 레코드의 몇 배로 쌓인다
+        assertThat((long) stats.get("segmentDeadBytes")).isLessThanOrEqualTo((long) stats.get("segmentBytes"));
+        for (int i = 0; i < ids.size(); i++) {
+            Item found = itemRepository.findById(ids.get(i));
+            assertThat(found.getItemName()).isEqualTo("item" + i);
+            assertThat(found.getQuantity()).isEqualTo(5);
+        }
+        assertThat(tempDir.resolve("item-cold.seg.compact")).doesNotExist();
+    }
+
+    @Test
+    void 자주_조회하는_상품은_한_번_훑는_조회에_밀려나지_않는다() {
+        List<Long> hotIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            hotIds.add(itemRepository.save(new Item("hot" + i, 10000, 10)).getId());
+        }
+        // 두 번 조회해서 protected 영역으로 올린다
+        hotIds.forEach(itemRepository::findById);
+
+        for (int i = 0; i < 100; i++) {
+            itemRepository.save(new Item("scan" + i, 10000, 10));
+        }
+        long coldHitsBefore = (long) store.stats().get("coldHits");
+        hotIds.forEach(itemRepository::findById);
+
+        assertThat((long) store.stats().get("coldHits")).isEqualTo(coldHitsBefore);
+    }
+
+    @Test
+    void 초기화하면_두_영역_모두_비운다() {
+        for (int i = 0; i < 50; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+
+        itemRepository.clearStore();
+
+        assertThat(itemRepository.findAll()).isEmpty();
+        assertThat(itemRepository.count()).isZero();
+        assertThat(store.stats().get("segmentBytes")).isEqualTo(0L);
+    }
+
+    @Test
+    void 동시에_저장_수정_조회해도_상품이_유실되거나_섞이지_않는다() throws Exception {
+        int threads = 8;
+        int perThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int k = 0; k < perThread; k++) {
+                        Item saved = itemRepository.save(new Item("item" + k, k, k));
+                        itemRepository.update(saved.getId(), new Item("item" + (k + 1), k + 1, k + 1));
+                        Item found = itemRepository.findById(saved.getId());
+                        assertThat(found.getItemName()).isEqualTo("item" + found.getPrice());
+                        assertThat(found.getQuantity()).isEqualTo(found.getPrice());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Item> items = itemRepository.findAll();
+        assertThat(items).hasSize(threads * perThread);
+        assertThat(items).allMatch(item -> item.getItemName().equals("item" + item.getPrice()));
+    }
+}
@@ -0,0 +1,126 @@
+package hello.itemservice.feed;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.id.LocalIdAllocator;
+import hello.itemservice.domain.item.store.MemoryItemStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemChangeFeedTest {
+
+    @Test
+    void 저장소의_저장_수정_초기화가_순서대로_발행된다() {
+        ItemChangeFeed feed = new ItemChangeFeed(16);
+        ItemRepository itemRepository = new ItemRepository(new LocalIdAllocator(), new MemoryItemStore(), List.of(feed));
+
+        Item saved = itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.update(saved.getId(), new Item("itemB", 20000, 20));
+        itemRepository.clearStore();
+
+        List<ItemChange> changes = new ArrayList<>();
+        long next = feed.poll(0, 10, changes);
+
+        assertThat(next).isEqualTo(3);
+        assertThat(changes).extracting(ItemChange::getSequence).containsExactly(0L, 1L, 2L);
+        assertThat(changes).extracting(ItemChange::getType)
+                .containsExactly(ItemChange.Type.SAVED, ItemChange.Type.UPDATED, ItemChange.Type.CLEARED);
+        assertThat(changes.get(1).getItem().getItemName()).isEqualTo("itemB");
+        assertThat(changes.get(2).getItem()).isNull();
+    }
+
+    @Test
+    void 읽은_위치부터_max_개씩_이어서_읽는다() {
+        ItemChangeFeed feed = new ItemChangeFeed(16);
+        for (int i = 0; i < 5; i++) {
+            feed.onChange(null, new Item("item" + i, 10000, 10));
+        }
+
+        List<ItemChange> changes = new ArrayList<>();
+        long cursor = feed.poll(0, 3, changes);
+        assertThat(cursor).isEqualTo(3);
+
+        cursor = feed.poll(cursor, 3, changes);
+        assertThat(cursor).isEqualTo(5);
+        assertThat(changes).extracting(change -> change.getItem().getItemName())
+                .containsExactly("item0", "item1", "item2", "item3", "item4");
+
+        // 새 변경이 없으면 그대로
+        assertThat(feed.poll(cursor, 3, changes)).isEqualTo(5);
+    }
+
+    @Test
+    void 덮어써진_위치를_읽으면_RESYNC() {
+        ItemChangeFeed feed = new ItemChangeFeed(4);
+        for (int i = 0; i < 10; i++) {
+            feed.onChange(null, new Item("item" + i, 10000, 10));
+        }
+
+        assertThat(feed.poll(0, 10, new ArrayList<>())).isEqualTo(ItemChangeFeed.RESYNC);
+        assertThat(feed.poll(6, 10, new ArrayList<>())).isEqualTo(10);
+        // 아직 발행되지 않은 위치 ( 서버 재시작 전의 Last-Event-ID 등 )
+        assertThat(feed.poll(11, 10, new ArrayList<>())).isEqualTo(ItemChangeFeed.RESYNC);
+    }
+
+    @Test
+    void 링_크기는_2의_거듭제곱으로_올린다() {
+        ItemChangeFeed feed = new ItemChangeFeed(5);
+        for (int i = 0; i < 8; i++) {
+            feed.onChange(null, new Item("item" + i, 10000, 10));
+        }
+
+        assertThat(feed.poll(0, 10, new ArrayList<>())).isEqualTo(8);
+    }
+
+    @Test
+    void 여러_스레드가_발행해도_읽는_쪽은_빈틈없이_순서대로_받는다() throws Exception {
+        int writers = 4;
+        int perWriter = 20_000;
+        int total = writers * perWriter;
+        ItemChangeFeed feed = new ItemChangeFeed(total);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<ItemChange> changes = new ArrayList<>();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int k = 0; k < perWriter; k++) {
+                        feed.onChange(null, new Item("item", 10000, 10));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            // 쓰는 도중에 계속 읽는다
+            long cursor = 0;
+            long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+            while (cursor < total && System.nanoTime() < deadline) {
+                cursor = feed.poll(cursor, 256, changes);
+                assertThat(cursor).isNotEqualTo(ItemChangeFeed.RESYNC);
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(changes).hasSize(total);
+        for (int i = 0; i < total; i++) {
+            assertThat(changes.get(i).getSequence()).isEqualTo(i);
+        }
+    }
+}
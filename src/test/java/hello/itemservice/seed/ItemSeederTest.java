@@ -0,0 +1,85 @@
+package hello.itemservice.seed;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.web.validation.ItemValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemSeederTest {
+
+    ItemRepository itemRepository = new ItemRepository();
+    ItemSeedProperties properties = new ItemSeedProperties();
+    ItemSeeder itemSeeder = new ItemSeeder(itemRepository, properties);
+    ItemValidator itemValidator = new ItemValidator();
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void 같은_seed_면_같은_상품() {
+        assertThat(itemSeeder.generate(123)).isEqualTo(itemSeeder.generate(123));
+        assertThat(itemSeeder.generate(123)).isNotEqualTo(itemSeeder.generate(124));
+    }
+
+    @Test
+    void 이웃한_상품끼리_난수열이_겹치지_않음() {
+        for (long index = 0; index < 100; index++) {
+            assertThat(draws(index)).doesNotContainAnyElementsOf(draws(index + 1));
+        }
+    }
+
+    @Test
+    void 음수_count_는_거부() {
+        assertThatThrownBy(() -> itemSeeder.seed(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 배치_단위로_저장() {
+        properties.setBatchSize(7);
+
+        itemSeeder.seed(100);
+
+        assertThat(itemRepository.findAll()).hasSize(100);
+    }
+
+    @Test
+    void invalidRatio_0_이면_모두_검증_통과() {
+        for (int i = 0; i < 1000; i++) {
+            assertThat(errorCount(itemSeeder.generate(i))).isZero();
+        }
+    }
+
+    @Test
+    void invalidRatio_1_이면_모두_검증_실패() {
+        properties.setInvalidRatio(1.0);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(errorCount(itemSeeder.generate(i))).isPositive();
+        }
+    }
+
+    private Set<Long> draws(long index) {
+        SplittableRandom random = itemSeeder.random(index);
+        Set<Long> draws = new HashSet<>();
+        for (int i = 0; i < 16; i++) {
+            draws.add(random.nextLong());
+        }
+        return draws;
+    }
+
+    private int errorCount(Item item) {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        itemValidator.validate(item, bindingResult);
+        return bindingResult.getErrorCount();
+    }
+}
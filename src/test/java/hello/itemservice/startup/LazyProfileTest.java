@@ -0,0 +1,38 @@
+package hello.itemservice.startup;
+
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * lazy 프로필로 띄워도 시드 데이터가 들어가고 화면이 정상 동작하는지
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("lazy")
+class LazyProfileTest {
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void 기동할_때_시드_데이터를_넣는다() {
+        assertThat(itemRepository.findAll()).extracting("itemName").contains("itemA", "itemB");
+    }
+
+    @Test
+    void 첫_요청에서_지연_초기화된_빈을_만든다() throws Exception {
+        mockMvc.perform(get("/validation/v4/items")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,64 @@
+package hello.itemservice.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StartupTimelineControllerTest {
+
+    // 기동 이벤트를 받지 않았으므로 시간 값은 모두 -1 ( warm-up 을 하지 않으니 빈 조회 대상은 필요 없다 )
+    StartupTracker startupTracker = new StartupTracker(new StartupProperties(), ApplicationStartup.DEFAULT, null, null, null, null);
+
+    @Test
+    void 오래_걸린_단계부터_보여준다() throws Exception {
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+        record(applicationStartup, "fast", 1);
+        record(applicationStartup, "slow", 30);
+        StartupStep tagged = applicationStartup.start("tagged");
+        tagged.tag("beanName", "itemRepository");
+        tagged.end();
+        StartupTimelineController controller = new StartupTimelineController(applicationStartup, startupTracker);
+
+        Map<String, Object> byDuration = controller.timeline("duration", 100);
+        Map<String, Object> byStart = controller.timeline("start", 2);
+
+        assertThat(byDuration).containsEntry("recording", true).containsEntry("stepCount", 3);
+        assertThat(names(byDuration).get(0)).isEqualTo("slow");
+        assertThat(names(byStart)).containsExactly("fast", "slow");
+        assertThat(steps(byDuration)).filteredOn(step -> "tagged".equals(step.get("name")))
+                .extracting(step -> step.get("tags"))
+                .containsExactly(List.of("beanName=itemRepository"));
+    }
+
+    @Test
+    void 기록하지_않으면_빈_타임라인() {
+        StartupTimelineController controller = new StartupTimelineController(ApplicationStartup.DEFAULT, startupTracker);
+
+        Map<String, Object> timeline = controller.timeline("duration", 100);
+
+        assertThat(timeline).containsEntry("recording", false).containsEntry("readyMillis", -1L);
+        assertThat(steps(timeline)).isEmpty();
+    }
+
+    private void record(ApplicationStartup applicationStartup, String name, long sleepMillis) throws InterruptedException {
+        StartupStep step = applicationStartup.start(name);
+        Thread.sleep(sleepMillis);
+        step.end();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> steps(Map<String, Object> timeline) {
+        return (List<Map<String, Object>>) timeline.get("steps");
+    }
+
+    private List<Object> names(Map<String, Object> timeline) {
+        return steps(timeline).stream().map(step -> step.get("name")).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,69 @@
+package hello.itemservice.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StaticResourceChainTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ResourceUrlProvider resourceUrlProvider;
+
+    @Test
+    void 템플릿_css_링크는_해시_URL_로_바뀐다() throws Exception {
+        String versionedUrl = resourceUrlProvider.getForLookupPath("/css/bootstrap.min.css");
+        assertThat(versionedUrl).matches("/css/bootstrap\\.min-[0-9a-f]{32}\\.css");
+
+        mockMvc.perform(get("/validation/v4/items"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(versionedUrl)));
+    }
+
+    @Test
+    void 해시_URL_은_장기_캐시_및_gzip_으로_응답한다() throws Exception {
+        String versionedUrl = resourceUrlProvider.getForLookupPath("/css/bootstrap.min.css");
+
+        mockMvc.perform(get(versionedUrl).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    @Test
+    void 해시가_없는_URL_은_매번_재검증한다() throws Exception {
+        mockMvc.perform(get("/css/bootstrap.min.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        mockMvc.perform(get("/js/item-feed.js"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    @Test
+    void 해시가_현재_내용과_다르면_장기_캐시하지_않는다() throws Exception {
+        mockMvc.perform(get("/css/bootstrap.min-0123456789abcdef0123456789abcdef.css"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    @Test
+    void html_은_장기_캐시하지_않는다() throws Exception {
+        mockMvc.perform(get("/index.html"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+}
@@ -0,0 +1,42 @@
+package hello.itemservice.web.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    static final long TARGET = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void 한도를_넘으면_거절() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 2, 10, TARGET, 0);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void 빠르면_한도_증가_느리면_한도_감소() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10, 20, TARGET, 0);
+
+        // 한도만큼 빠르게 처리되면 1 증가
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(TARGET / 2, 0);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(11);
+
+        // 목표 지연시간을 넘으면 10% 감소, 같은 구간 안의 연속 감소는 무시
+        limiter.tryAcquire();
+        limiter.release(TARGET * 2, TARGET);
+        limiter.tryAcquire();
+        limiter.release(TARGET * 2, TARGET + 1);
+        assertThat(limiter.getLimit()).isEqualTo(9);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
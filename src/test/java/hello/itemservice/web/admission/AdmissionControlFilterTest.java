@@ -0,0 +1,100 @@
+package hello.itemservice.web.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AdmissionControlFilterTest {
+
+    @Test
+    void 메서드와_경로가_모두_맞아야_대상이다() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties());
+
+        assertThat(status(filter, "PATCH", "/validation/api/items/1")).isEqualTo(200);
+        assertThat(status(filter, "PATCH", "/validation/api/items/1")).isEqualTo(429);
+
+        // GET 은 같은 경로여도 대상이 아니다
+        assertThat(status(filter, "GET", "/validation/api/items/1")).isEqualTo(200);
+    }
+
+    @Test
+    void 클라이언트_주소가_많아도_버킷_수는_maxClients_이하() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties());
+
+        for (int i = 0; i < 1000; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/validation/v4/items/add");
+            request.setRemoteAddr("10.1." + (i / 256) + "." + (i % 256));
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        assertThat(filter.clientCount()).isLessThanOrEqualTo(32);
+    }
+
+    @Test
+    void 일괄_등록은_원소_수만큼_토큰을_쓴다() throws Exception {
+        AdmissionControlProperties properties = properties();
+        properties.setClientRate(1);
+        properties.setClientBurst(10);
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties);
+
+        // 원소 10개 : 필터가 하나, 컨버터가 나머지 9개를 차감 ( 남은 토큰과 딱 맞는다 ), 11번째 원소는 모자란다
+        long[] waitNanos = new long[2];
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/validation/api/items/batch"), response,
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest request, HttpServletResponse response) {
+                        waitNanos[0] = AdmissionTicket.tryCharge(request, 9);
+                        waitNanos[1] = AdmissionTicket.tryCharge(request, 1);
+                    }
+                }));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(waitNanos[0]).isZero();
+        assertThat(waitNanos[1]).isPositive();
+        assertThat(status(filter, "POST", "/validation/api/items/batch")).isEqualTo(429);
+    }
+
+    @Test
+    void 전체_버킷에서_거절되면_클라이언트_토큰을_돌려준다() throws Exception {
+        AdmissionControlProperties properties = properties();
+        properties.setClientBurst(2);
+        properties.setGlobalRate(0.01);
+        properties.setGlobalBurst(1);
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties);
+
+        assertThat(status(filter, "PATCH", "/validation/api/items/1")).isEqualTo(200);
+        // 두 번째부터는 전체 버킷이 거절한다 ( Retry-After 100초 ). 돌려받은 클라이언트 토큰이 남아 있어서
+        // 세 번째도 클라이언트 버킷 ( Retry-After 1000초 ) 이 아니라 전체 버킷에서 거절된다
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("PATCH", "/validation/api/items/1"), response, new MockFilterChain());
+
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getHeader("Retry-After")).isEqualTo("100");
+        }
+    }
+
+    private static AdmissionControlProperties properties() {
+        AdmissionControlProperties properties = new AdmissionControlProperties();
+        properties.setClientRate(0.001);
+        properties.setClientBurst(1);
+        properties.setGlobalRate(1_000_000);
+        properties.setGlobalBurst(1_000_000);
+        properties.setMaxClients(32);
+        return properties;
+    }
+
+    private static int status(AdmissionControlFilter filter, String method, String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,50 @@
+package hello.itemservice.web.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClientBucketsTest {
+
+    @Test
+    void 최대_개수를_넘지_않는다() {
+        ClientBuckets buckets = new ClientBuckets(64, now -> new TokenBucket(1, 1, now), 0);
+
+        for (int i = 0; i < 10_000; i++) {
+            buckets.get("10.0." + (i / 256) + "." + (i % 256), 0);
+        }
+
+        assertThat(buckets.size()).isLessThanOrEqualTo(64);
+    }
+
+    @Test
+    void 최근에_쓴_클라이언트의_버킷은_유지된다() {
+        ClientBuckets buckets = new ClientBuckets(16, now -> new TokenBucket(1, 1, now), 0);
+        TokenBucket active = buckets.get("client", 0);
+        active.tryAcquire(0);
+
+        for (int i = 0; i < 1000; i++) {
+            buckets.get("other" + i, 0);
+            // 토큰을 쓰고 있는 클라이언트의 버킷은 지워지지 않는다
+            assertThat(buckets.get("client", 0)).isSameAs(active);
+        }
+    }
+
+    @Test
+    void 가득_차도_토큰을_다_쓴_클라이언트는_다시_채워지지_않는다() {
+        ClientBuckets buckets = new ClientBuckets(16, now -> new TokenBucket(1, 1, now), 0);
+        for (int i = 0; i < 16; i++) {
+            buckets.get("client" + i, 0).tryAcquire(0);
+        }
+
+        // 자리가 없으므로 새 클라이언트들은 공용 버킷 하나를 함께 쓴다
+        TokenBucket overflow = buckets.get("new1", 0);
+        assertThat(buckets.get("new2", 0)).isSameAs(overflow);
+        assertThat(overflow.tryAcquire(0)).isZero();
+        assertThat(buckets.get("new3", 0).tryAcquire(0)).isPositive();
+
+        // 토큰을 다 쓴 클라이언트는 여전히 기다려야 한다
+        assertThat(buckets.size()).isEqualTo(16);
+        assertThat(buckets.get("client0", 0).tryAcquire(0)).isPositive();
+    }
+}
@@ -0,0 +1,64 @@
+package hello.itemservice.web.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenBucketTest {
+
+    static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void 버스트_만큼만_즉시_허용() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(0)).isZero();
+        }
+        // 6번째는 토큰 하나가 채워지는 0.1초를 기다려야 한다
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    void 시간이_지나면_다시_채워진다() {
+        TokenBucket bucket = new TokenBucket(10, 1, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(SECOND / 20)).isPositive();
+        assertThat(bucket.tryAcquire(SECOND / 10)).isZero();
+    }
+
+    @Test
+    void charge_로_차감한_만큼_다음_요청이_기다린다() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        // 남은 토큰 4개보다 많은 9개를 차감 -> 5개가 모자라고, 다음 하나까지 6개를 기다린다
+        bucket.charge(0, 9);
+
+        assertThat(bucket.tryAcquire(0)).isEqualTo(6 * SECOND / 10);
+        assertThat(bucket.tryAcquire(6 * SECOND / 10)).isZero();
+    }
+
+    @Test
+    void refund_로_돌려준_토큰은_다시_쓸_수_있다() {
+        TokenBucket bucket = new TokenBucket(10, 1, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        bucket.refund();
+
+        assertThat(bucket.isIdle(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isZero();
+    }
+
+    @Test
+    void 오래_사용하지_않은_버킷은_idle() {
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+        bucket.tryAcquire(0);
+
+        assertThat(bucket.isIdle(0)).isFalse();
+        assertThat(bucket.isIdle(SECOND)).isTrue();
+    }
+}
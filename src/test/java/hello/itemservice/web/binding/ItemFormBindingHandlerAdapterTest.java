@@ -0,0 +1,56 @@
+package hello.itemservice.web.binding;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemFormBindingHandlerAdapterTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    RequestMappingHandlerAdapter handlerAdapter;
+
+    @Test
+    void 전용_어댑터가_등록된다() {
+        assertThat(handlerAdapter).isInstanceOf(ItemFormBindingHandlerAdapter.class);
+    }
+
+    @Test
+    void v2_는_ItemBinderValidators_의_Validator_로_검증한다() throws Exception {
+        BindingResult bindingResult = (BindingResult) mockMvc.perform(post("/validation/v2/items/add")
+                        .param("itemName", "")
+                        .param("price", "10000")
+                        .param("quantity", "10")
+                        .param("email", "a@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("validation/v2/addForm"))
+                .andReturn().getModelAndView().getModel().get(BindingResult.MODEL_KEY_PREFIX + "item");
+
+        assertThat(bindingResult.getFieldError("itemName").getCode()).isEqualTo("required");
+    }
+
+    @Test
+    void v4_타입_오류는_typeMismatch_코드() throws Exception {
+        BindingResult bindingResult = (BindingResult) mockMvc.perform(post("/validation/v4/items/add")
+                        .param("itemName", "itemA")
+                        .param("price", "qqq")
+                        .param("quantity", "10"))
+                .andExpect(status().isOk())
+                .andReturn().getModelAndView().getModel().get(BindingResult.MODEL_KEY_PREFIX + "item");
+
+        assertThat(bindingResult.getFieldError("price").getCodes()).contains("typeMismatch.item.price", "typeMismatch");
+        assertThat(bindingResult.getFieldError("price").getRejectedValue()).isEqualTo("qqq");
+    }
+}
@@ -0,0 +1,93 @@
+package hello.itemservice.web.binding;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.DataBinder;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.WebDataBinder;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 전용 바인더가 기본 DataBinder 와 같은 결과 ( 값, 타입 오류 코드 / 거절값 ) 를 내는지
+ */
+class ItemFormDataBinderTest {
+
+    static final DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+
+    @Test
+    void 정상_값은_기본_바인더와_같다() {
+        Map<String, Object> params = Map.of("id", "7", "itemName", "itemA", "price", " 10000 ", "quantity", "10", "email", "a@b.com");
+
+        Item specialized = (Item) bindSpecialized(Item::new, "item", params).getTarget();
+        Item generic = (Item) bindGeneric(Item::new, "item", params).getTarget();
+
+        assertThat(specialized).isEqualTo(generic);
+        assertThat(specialized.getId()).isEqualTo(7L);
+        assertThat(specialized.getPrice()).isEqualTo(10000);
+    }
+
+    @Test
+    void 빈_숫자는_null_이고_여러_값은_기본_바인더와_같다() {
+        Map<String, Object> params = Map.of("itemName", new String[]{"a", "b"}, "price", "", "quantity", new String[]{"3", "4"});
+
+        ItemSaveForm specialized = (ItemSaveForm) bindSpecialized(ItemSaveForm::new, "item", params).getTarget();
+        ItemSaveForm generic = (ItemSaveForm) bindGeneric(ItemSaveForm::new, "item", params).getTarget();
+
+        assertThat(specialized.getItemName()).isEqualTo(generic.getItemName()).isEqualTo("a,b");
+        assertThat(specialized.getPrice()).isNull();
+        assertThat(generic.getPrice()).isNull();
+        assertThat(specialized.getQuantity()).isEqualTo(generic.getQuantity());
+    }
+
+    @Test
+    void 타입_오류는_기본_바인더와_같은_FieldError() {
+        Map<String, Object> params = Map.of("id", "x", "itemName", "itemA", "price", "qqq", "quantity", "99999999999");
+
+        BindingResult specialized = bindSpecialized(ItemUpdateForm::new, "item", params);
+        BindingResult generic = bindGeneric(ItemUpdateForm::new, "item", params);
+
+        assertThat(specialized.getFieldErrors()).hasSize(3);
+        for (FieldError expected : generic.getFieldErrors()) {
+            FieldError actual = specialized.getFieldError(expected.getField());
+            assertThat(actual).isNotNull();
+            assertThat(actual.getCodes()).containsExactly(expected.getCodes());
+            assertThat(actual.getRejectedValue()).isEqualTo(expected.getRejectedValue());
+            assertThat(actual.isBindingFailure()).isTrue();
+            assertThat(actual.getCode()).isEqualTo("typeMismatch");
+        }
+    }
+
+    @Test
+    void 표에_없는_필드는_바인딩하지_않는다() {
+        Map<String, Object> params = Map.of("id", "7", "itemName", "itemA", "class.name", "x");
+
+        BindingResult result = bindSpecialized(ItemSaveForm::new, "item", params);
+
+        assertThat(result.hasErrors()).isFalse();
+        assertThat(result.getSuppressedFields()).contains("id", "class.name");
+    }
+
+    private static BindingResult bindSpecialized(Supplier<Object> target, String objectName, Map<String, Object> params) {
+        Object form = target.get();
+        ItemFormDataBinder binder = new ItemFormDataBinder(form, objectName, ItemFormBinding.forType(form.getClass()));
+        binder.setConversionService(conversionService);
+        binder.bind(new MutablePropertyValues(params));
+        return binder.getBindingResult();
+    }
+
+    private static BindingResult bindGeneric(Supplier<Object> target, String objectName, Map<String, Object> params) {
+        DataBinder binder = new WebDataBinder(target.get(), objectName);
+        binder.setConversionService(conversionService);
+        binder.bind(new MutablePropertyValues(params));
+        return binder.getBindingResult();
+    }
+}
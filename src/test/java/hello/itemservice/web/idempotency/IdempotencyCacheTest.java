@@ -0,0 +1,79 @@
+package hello.itemservice.web.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    @Test
+    void 같은_키는_처음_Future_를_공유한다() {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(10, 1000);
+
+        IdempotencyCache.Claim<String> first = cache.claim("key", "body", 0);
+        IdempotencyCache.Claim<String> second = cache.claim("key", "body", 1);
+
+        assertThat(first.isOwner()).isTrue();
+        assertThat(second.isOwner()).isFalse();
+        assertThat(second.getFuture()).isSameAs(first.getFuture());
+
+        first.getFuture().complete("response");
+        assertThat(second.getFuture().join()).isEqualTo("response");
+    }
+
+    @Test
+    void TTL_이_지나면_새로_처리한다() {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(10, 1000);
+        cache.claim("key", "body", 0).getFuture().complete("old");
+
+        IdempotencyCache.Claim<String> claim = cache.claim("key", "body", 1000);
+
+        assertThat(claim.isOwner()).isTrue();
+        assertThat(claim.getFuture()).isNotDone();
+    }
+
+    @Test
+    void 최대_개수를_넘으면_완료된_오래된_키부터_제거() {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(2, 1000);
+        cache.claim("a", "body", 0).getFuture().complete("a");
+        cache.claim("b", "body", 0).getFuture().complete("b");
+        cache.claim("c", "body", 0); // a 제거
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.claim("b", "body", 0).isOwner()).isFalse();
+        assertThat(cache.claim("a", "body", 0).isOwner()).isTrue();
+    }
+
+    @Test
+    void 처리_중인_키는_최대_개수를_넘어도_제거하지_않는다() {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(2, 1000);
+        IdempotencyCache.Claim<String> inFlight = cache.claim("a", "body", 0);
+        for (int i = 0; i < 100; i++) {
+            cache.claim("k" + i, "body", 0).getFuture().complete("done");
+        }
+
+        IdempotencyCache.Claim<String> duplicate = cache.claim("a", "body", 0);
+        assertThat(duplicate.isOwner()).isFalse();
+        assertThat(duplicate.getFuture()).isSameAs(inFlight.getFuture());
+        assertThat(cache.size()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void 같은_키로_다른_요청이면_알려준다() {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(10, 1000);
+        cache.claim("key", "body1", 0);
+
+        assertThat(cache.claim("key", "body1", 0).isSameRequest()).isTrue();
+        assertThat(cache.claim("key", "body2", 0).isSameRequest()).isFalse();
+    }
+
+    @Test
+    void 실패한_키는_제거되어_다시_처리할_수_있다() {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(10, 1000);
+        IdempotencyCache.Claim<String> claim = cache.claim("key", "body", 0);
+
+        cache.remove("key", claim.getFuture());
+
+        assertThat(cache.claim("key", "body", 0).isOwner()).isTrue();
+    }
+}
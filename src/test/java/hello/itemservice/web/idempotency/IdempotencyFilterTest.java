@@ -0,0 +1,138 @@
+package hello.itemservice.web.idempotency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IdempotencyFilterTest {
+
+    final IdempotencyFilter filter = new IdempotencyFilter(new IdempotencyProperties());
+    final AtomicInteger executions = new AtomicInteger();
+
+    // 바디를 읽어서 그대로 돌려주는 컨트롤러 대역 ( 실행 횟수를 센다 )
+    final HttpServlet echo = new HttpServlet() {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            int execution = executions.incrementAndGet();
+            String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write(execution + ":" + body);
+        }
+    };
+
+    @Test
+    void 같은_키_같은_바디는_저장된_응답() throws Exception {
+        MockHttpServletResponse first = perform("key", "10.0.0.1", "{\"itemName\":\"a\"}");
+        MockHttpServletResponse second = perform("key", "10.0.0.1", "{\"itemName\":\"a\"}");
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getContentAsString()).isEqualTo("1:{\"itemName\":\"a\"}");
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+    }
+
+    @Test
+    void 같은_키_다른_바디는_422() throws Exception {
+        perform("key", "10.0.0.1", "{\"itemName\":\"a\"}");
+        MockHttpServletResponse second = perform("key", "10.0.0.1", "{\"itemName\":\"b\"}");
+
+        assertThat(second.getStatus()).isEqualTo(422);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void 다른_클라이언트의_같은_키는_따로_처리() throws Exception {
+        perform("key", "10.0.0.1", "{\"itemName\":\"a\"}");
+        MockHttpServletResponse other = perform("key", "10.0.0.2", "{\"itemName\":\"a\"}");
+
+        assertThat(executions).hasValue(2);
+        assertThat(other.getContentAsString()).startsWith("2:");
+    }
+
+    @Test
+    void 최대_크기를_넘는_바디는_413() throws Exception {
+        String body = "{\"itemName\":\"" + "a".repeat(new IdempotencyProperties().getMaxBodySize()) + "\"}";
+
+        MockHttpServletResponse response = perform("key", "10.0.0.1", body);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void 처음_요청이_실패하면_기다리던_요청_중_하나만_다시_처리() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServlet failFirst = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                int execution = executions.incrementAndGet();
+                if (execution == 1) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IllegalStateException("처리 실패");
+                }
+                response.getWriter().write(execution + ":");
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> perform("key", "10.0.0.1", "{}", failFirst));
+            awaitUntil(() -> executions.get() == 1);
+            Future<MockHttpServletResponse> second = executor.submit(() -> perform("key", "10.0.0.1", "{}", failFirst));
+            Future<MockHttpServletResponse> third = executor.submit(() -> perform("key", "10.0.0.1", "{}", failFirst));
+            awaitUntil(() -> filter.waiterCount() == 2);
+
+            release.countDown();
+
+            assertThatThrownBy(first::get).hasRootCauseInstanceOf(IllegalStateException.class);
+            assertThat(second.get().getContentAsString()).isEqualTo("2:");
+            assertThat(third.get().getContentAsString()).isEqualTo("2:");
+            assertThat(executions).hasValue(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("대기 시간 초과").isNegative();
+            Thread.sleep(1);
+        }
+    }
+
+    private MockHttpServletResponse perform(String key, String remoteAddr, String body) throws Exception {
+        return perform(key, remoteAddr, body, echo);
+    }
+
+    private MockHttpServletResponse perform(String key, String remoteAddr, String body, HttpServlet servlet) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/validation/api/items/add");
+        request.setRemoteAddr(remoteAddr);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+}
@@ -0,0 +1,356 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 요청 하나의 비용 ( 할당 바이트, CPU 시간 ) 회귀 테스트
+ * - 일반 test 태스크에서는 돌지 않는다 ( 요청 수천 건 ) : ./gradlew budgetTest ( check 가 함께 실행한다 )
+ * - v1~v4 컨트롤러와 상품 API 를 MockMvc 로 호출한다 ( 요청이 테스트 스레드에서 처리되므로 ThreadMXBean 으로 잴 수 있다 )
+ * - 워밍업 후 요청마다 측정하고, 할당 바이트 / CPU 시간 중앙값을 endpoint-budgets.properties 의 예산과 비교한다
+ *   CPU 시간은 장비 / 부하에 따라 흔들리므로 허용 오차를 넓게 둔다 ( 큰 회귀만 잡는다 )
+ * - 예산을 허용 오차 이상 넘으면 실패한다
+ * - 측정한 엔드포인트에 예산이 없거나, 예산 파일에 측정하지 않는 엔드포인트가 남아 있어도 실패한다
+ * - v4 의 느린 검증 규칙처럼 다른 스레드에서 하는 일은 포함되지 않는다
+ *
+ * 설정 ( 시스템 프로퍼티 )
+ * - budget.warmup, budget.iterations : 엔드포인트별 워밍업 / 측정 요청 수 ( 기본 300 / 200 )
+ * - budget.tolerance : 할당 허용 오차 ( 기본 0.25 )
+ * - budget.cpu-tolerance : CPU 시간 허용 오차 ( 기본 2.0, 예산의 3배까지 허용 )
+ * - budget.record=true : 비교하지 않고 측정값으로 새 예산 파일을 build/reports/budget 에 만든다 ( 처음 기록 / 의도한 변경 후 갱신용 )
+ */
+@Tag("budget")
+@SpringBootTest(properties = {
+        "item.admission.enabled=false",
+        "item.idempotency.enabled=false",
+        "logging.level.hello.itemservice=warn",
+        "logging.level.hello.itemservice.web.validation.EndpointCostBudgetTest=info"
+})
+@AutoConfigureMockMvc
+class EndpointCostBudgetTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EndpointCostBudgetTest.class);
+
+    static final int WARMUP = Integer.getInteger("budget.warmup", 300);
+    static final int ITERATIONS = Integer.getInteger("budget.iterations", 200);
+    static final double TOLERANCE = Double.parseDouble(System.getProperty("budget.tolerance", "0.25"));
+    static final double CPU_TOLERANCE = Double.parseDouble(System.getProperty("budget.cpu-tolerance", "2.0"));
+    static final boolean RECORD = Boolean.getBoolean("budget.record");
+    static final Path REPORT_DIR = Paths.get(System.getProperty("budget.report-dir", "build/reports/budget"));
+
+    static final String BUDGET_FILE = "/endpoint-budgets.properties";
+    static final String ALLOCATED_SUFFIX = ".allocated-bytes";
+    static final String CPU_SUFFIX = ".cpu-micros";
+    static final int REPORT_LIMIT = 10;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // 수정 대상 상품 ( 엔드포인트마다 저장소를 비우고 다시 넣는다 )
+    Long itemId;
+
+    @Test
+    void 엔드포인트별_요청_비용이_예산_안에_있다() throws Exception {
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isCurrentThreadCpuTimeSupported(),
+                "이 JVM 은 스레드별 할당량 / CPU 시간을 지원하지 않는다");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        threadMXBean.setThreadCpuTimeEnabled(true);
+
+        List<Cost> costs = new ArrayList<>();
+        for (Endpoint endpoint : endpoints()) {
+            resetStore();
+            costs.add(measure(endpoint));
+        }
+
+        if (RECORD) {
+            writeBudgets(costs);
+            return;
+        }
+
+        Properties budgets = loadBudgets();
+        costs.forEach(cost -> cost.applyBudget(budgets));
+        costs.sort(Comparator.comparingDouble(Cost::worstRatio).reversed());
+        String report = report(costs);
+        writeReport(report);
+        log.info("\n{}", report);
+
+        assertThat(unbudgeted(costs))
+                .as("예산이 없는 엔드포인트 ( -Dbudget.record=true 로 측정해서 %s 에 기록한다 )", BUDGET_FILE)
+                .isEmpty();
+        assertThat(staleBudgetKeys(budgets, costs))
+                .as("%s 에 측정하지 않는 엔드포인트의 예산이 남아 있다", BUDGET_FILE)
+                .isEmpty();
+        assertThat(costs).filteredOn(Cost::overAllocatedBudget)
+                .as("할당 예산 초과 ( 허용 오차 %.0f%% )%n%s", TOLERANCE * 100, report)
+                .isEmpty();
+        assertThat(costs).filteredOn(Cost::overCpuBudget)
+                .as("CPU 예산 초과 ( 허용 오차 %.0f%% )%n%s", CPU_TOLERANCE * 100, report)
+                .isEmpty();
+    }
+
+    private List<Endpoint> endpoints() {
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (String version : List.of("v1", "v2", "v3", "v4")) {
+            String base = "/validation/" + version + "/items";
+            endpoints.add(new Endpoint(version + ".list", status().isOk(), n -> get(base)));
+            endpoints.add(new Endpoint(version + ".detail", status().isOk(), n -> get(base + "/" + itemId)));
+            endpoints.add(new Endpoint(version + ".addForm", status().isOk(), n -> get(base + "/add")));
+            endpoints.add(new Endpoint(version + ".add", status().is3xxRedirection(), n -> post(base + "/add")
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .param("itemName", "budget" + n)
+                    .param("price", "10000")
+                    .param("quantity", "10")
+                    .param("email", "budget@example.com")));
+            endpoints.add(new Endpoint(version + ".add.invalid", status().isOk(), n -> post(base + "/add")
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .param("itemName", "")
+                    .param("price", "10")
+                    .param("quantity", "")
+                    .param("email", "bad")));
+            endpoints.add(new Endpoint(version + ".editForm", status().isOk(), n -> get(base + "/" + itemId + "/edit")));
+            endpoints.add(new Endpoint(version + ".edit", status().is3xxRedirection(), n -> post(base + "/" + itemId + "/edit")
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .param("id", String.valueOf(itemId))
+                    .param("itemName", "itemA")
+                    .param("price", String.valueOf(10000 + n % 2))
+                    .param("quantity", "10")
+                    .param("email", "itemA@example.com")));
+        }
+
+        String api = "/validation/api/items";
+        endpoints.add(new Endpoint("api.add", status().isOk(), n -> post(api + "/add")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"itemName\":\"budget" + n + "\",\"price\":10000,\"quantity\":10,\"email\":\"budget@example.com\"}")));
+        endpoints.add(new Endpoint("api.add.invalid", status().isOk(), n -> post(api + "/add")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"itemName\":\"\",\"price\":\"qqq\",\"quantity\":10}")));
+        // 값이 매번 바뀌어야 저장까지 간다 ( 같은 값이면 changed=false 로 끝난다 )
+        endpoints.add(new Endpoint("api.patch", status().isOk(), n -> patch(api + "/" + itemId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"price\":" + (10000 + n % 2) + "}")));
+        endpoints.add(new Endpoint("api.batch", status().isOk(), n -> post(api + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchBody(n, 10))));
+        return endpoints;
+    }
+
+    private static String batchBody(int n, int size) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"itemName\":\"batch").append(n).append('-').append(i)
+                    .append("\",\"price\":10000,\"quantity\":10,\"email\":\"budget@example.com\"}");
+        }
+        return sb.append(']').toString();
+    }
+
+    // 상품 목록 화면의 비용이 측정 순서에 따라 달라지지 않도록 시드 데이터 2건만 남긴다
+    private void resetStore() {
+        itemRepository.clearStore();
+        Item itemA = new Item("itemA", 10000, 10);
+        itemA.setEmail("itemA@example.com");
+        itemId = itemRepository.save(itemA).getId();
+        itemRepository.save(new Item("itemB", 20000, 20));
+    }
+
+    private Cost measure(Endpoint endpoint) throws Exception {
+        int n = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            mockMvc.perform(endpoint.request.apply(n++)).andExpect(endpoint.expected);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long[] allocated = new long[ITERATIONS];
+        long[] cpu = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            RequestBuilder request = endpoint.request.apply(n++);
+            long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+            long cpuBefore = threadMXBean.getCurrentThreadCpuTime();
+            mockMvc.perform(request).andExpect(endpoint.expected);
+            cpu[i] = threadMXBean.getCurrentThreadCpuTime() - cpuBefore;
+            allocated[i] = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+        return new Cost(endpoint.name, median(allocated), median(cpu) / 1000);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static Properties loadBudgets() throws IOException {
+        Properties budgets = new Properties();
+        try (InputStream in = EndpointCostBudgetTest.class.getResourceAsStream(BUDGET_FILE)) {
+            assertThat(in).as("%s 가 테스트 클래스패스에 없다", BUDGET_FILE).isNotNull();
+            budgets.load(in);
+        }
+        return budgets;
+    }
+
+    private static List<String> unbudgeted(List<Cost> costs) {
+        List<String> names = new ArrayList<>();
+        for (Cost cost : costs) {
+            if (!cost.hasBudget()) {
+                names.add(cost.name);
+            }
+        }
+        return names;
+    }
+
+    // 예산 파일의 키 중 이번에 측정한 엔드포인트와 맞지 않는 것 ( 이름이 바뀌었거나 지운 엔드포인트 )
+    private static List<String> staleBudgetKeys(Properties budgets, List<Cost> costs) {
+        Set<String> known = new HashSet<>();
+        for (Cost cost : costs) {
+            known.add(cost.name + ALLOCATED_SUFFIX);
+            known.add(cost.name + CPU_SUFFIX);
+        }
+        List<String> stale = new ArrayList<>(budgets.stringPropertyNames());
+        stale.removeAll(known);
+        stale.sort(Comparator.naturalOrder());
+        return stale;
+    }
+
+    private static String report(List<Cost> costs) {
+        StringBuilder sb = new StringBuilder();
+        long unbudgeted = costs.stream().filter(cost -> !cost.hasBudget()).count();
+        sb.append(String.format("엔드포인트 요청 비용 ( 중앙값, warmup=%d, iterations=%d ) - 예산 대비 비율이 큰 순서 %d개, 예산 없음 %d개%n",
+                WARMUP, ITERATIONS, Math.min(REPORT_LIMIT, costs.size() - unbudgeted), unbudgeted));
+        sb.append(String.format("%-20s %12s %12s %7s %10s %10s %7s%n",
+                "endpoint", "alloc(B)", "budget(B)", "ratio", "cpu(us)", "budget(us)", "ratio"));
+        costs.stream().filter(Cost::hasBudget).limit(REPORT_LIMIT)
+                .forEach(cost -> sb.append(String.format("%-20s %12d %12d %7.2f %10d %10d %7.2f%s%n",
+                        cost.name, cost.allocatedBytes, cost.allocatedBudget, cost.allocatedRatio(),
+                        cost.cpuMicros, cost.cpuBudget, cost.cpuRatio(),
+                        cost.overAllocatedBudget() || cost.overCpuBudget() ? "  << 초과" : "")));
+        // 예산이 없는 엔드포인트는 측정값만 ( 테스트는 실패한다. -Dbudget.record=true 로 기록해서 예산 파일에 옮긴다 )
+        costs.stream().filter(cost -> !cost.hasBudget())
+                .forEach(cost -> sb.append(String.format("%-20s %12d %12s %7s %10d %10s %7s%n",
+                        cost.name, cost.allocatedBytes, "예산 없음", "-", cost.cpuMicros, "예산 없음", "-")));
+        return sb.toString();
+    }
+
+    private static void writeReport(String report) throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        Files.writeString(REPORT_DIR.resolve("endpoint-costs.txt"), report);
+    }
+
+    // 측정값을 할당은 1KB, CPU 는 100us 단위로 올림해서 예산 파일 형식으로 남긴다
+    private static void writeBudgets(List<Cost> costs) throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        Path file = REPORT_DIR.resolve("endpoint-budgets.properties");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            out.printf("# EndpointCostBudgetTest -Dbudget.record=true 로 측정한 값 ( java %s, %s %s )%n",
+                    System.getProperty("java.version"), System.getProperty("os.name"), System.getProperty("os.arch"));
+            for (Cost cost : costs) {
+                out.printf("%s%s=%d%n", cost.name, ALLOCATED_SUFFIX, roundUp(cost.allocatedBytes, 1024));
+                out.printf("%s%s=%d%n", cost.name, CPU_SUFFIX, roundUp(Math.max(cost.cpuMicros, 1), 100));
+            }
+        }
+        log.info("새 예산 파일 : {}", file.toAbsolutePath());
+    }
+
+    private static long roundUp(long value, long unit) {
+        return (value + unit - 1) / unit * unit;
+    }
+
+    static class Endpoint {
+
+        final String name;
+        final ResultMatcher expected;
+        final IntFunction<RequestBuilder> request;
+
+        Endpoint(String name, ResultMatcher expected, IntFunction<RequestBuilder> request) {
+            this.name = name;
+            this.expected = expected;
+            this.request = request;
+        }
+    }
+
+    static class Cost {
+
+        final String name;
+        final long allocatedBytes;
+        final long cpuMicros;
+        long allocatedBudget;
+        long cpuBudget;
+
+        Cost(String name, long allocatedBytes, long cpuMicros) {
+            this.name = name;
+            this.allocatedBytes = allocatedBytes;
+            this.cpuMicros = cpuMicros;
+        }
+
+        void applyBudget(Properties budgets) {
+            allocatedBudget = Long.parseLong(budgets.getProperty(name + ALLOCATED_SUFFIX, "0").trim());
+            cpuBudget = Long.parseLong(budgets.getProperty(name + CPU_SUFFIX, "0").trim());
+        }
+
+        // 할당 / CPU 예산이 모두 있어야 한다 ( 하나라도 없으면 테스트가 실패한다 )
+        boolean hasBudget() {
+            return allocatedBudget > 0 && cpuBudget > 0;
+        }
+
+        // 예산이 없으면 0 ( 초과 판정은 하지 않고 예산 없음으로 실패한다 )
+        double allocatedRatio() {
+            return allocatedBudget == 0 ? 0 : (double) allocatedBytes / allocatedBudget;
+        }
+
+        double cpuRatio() {
+            return cpuBudget == 0 ? 0 : (double) cpuMicros / cpuBudget;
+        }
+
+        // 리포트 정렬용 ( CPU 는 허용 오차가 넓으므로 허용 한도 대비 비율로 맞춘다 )
+        double worstRatio() {
+            return Math.max(allocatedRatio() / (1 + TOLERANCE), cpuRatio() / (1 + CPU_TOLERANCE));
+        }
+
+        boolean overAllocatedBudget() {
+            return allocatedRatio() > 1 + TOLERANCE;
+        }
+
+        boolean overCpuBudget() {
+            return cpuRatio() > 1 + CPU_TOLERANCE;
+        }
+    }
+}
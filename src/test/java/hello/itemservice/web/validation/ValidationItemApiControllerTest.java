@@ -0,0 +1,268 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ValidationItemApiControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Test
+    void 성공() throws Exception {
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"hello\",\"price\":1000,\"quantity\":100}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemName").value("hello"))
+                .andExpect(jsonPath("$.price").value(1000));
+    }
+
+    @Test
+    void 타입_오류는_typeMismatch_로_반환() throws Exception {
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"hello\",\"price\":\"qqq\",\"quantity\":100}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].field").value("price"))
+                .andExpect(jsonPath("$[0].rejectedValue").value("qqq"))
+                .andExpect(jsonPath("$[0].bindingFailure").value(true))
+                .andExpect(jsonPath("$[0].codes[0]").value("typeMismatch.itemSaveForm.price"));
+    }
+
+    @Test
+    void 검증_오류() throws Exception {
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\" \",\"price\":1000,\"quantity\":100}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].field").value("itemName"))
+                .andExpect(jsonPath("$[0].codes", hasItem("NotBlank")));
+    }
+
+    @Test
+    void 깨진_JSON_은_400() throws Exception {
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 같은_멱등키는_처음_응답을_재사용() throws Exception {
+        mockMvc.perform(post("/validation/api/items/add")
+                        .header("Idempotency-Key", "api-test-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"first\",\"price\":1000,\"quantity\":100}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemName").value("first"));
+
+        // 바디가 달라도 같은 키면 처음 응답을 그대로 돌려준다
+        mockMvc.perform(post("/validation/api/items/add")
+                        .header("Idempotency-Key", "api-test-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"second\",\"price\":1000,\"quantity\":100}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemName").value("first"));
+    }
+
+    @Test
+    void 일괄_등록은_원소별_결과를_같은_순서로_반환() throws Exception {
+        mockMvc.perform(post("/validation/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"itemName\":\"a\",\"price\":1000,\"quantity\":100},"
+                                + "{\"itemName\":\"b\",\"price\":\"qqq\",\"quantity\":100}]"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].item.itemName").value("a"))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].errors[0].codes[0]").value("typeMismatch.itemSaveForm.price"));
+    }
+
+    @Test
+    void 일괄_등록은_토큰이_모자라면_나머지를_읽지_않고_429() throws Exception {
+        // 클라이언트 버스트 ( 기본 40 ) 보다 많은 원소. 다른 테스트와 버킷을 나누지 않도록 주소를 따로 쓴다
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"itemName\":\"a\",\"price\":1000,\"quantity\":100}");
+        }
+        body.append(']');
+
+        mockMvc.perform(post("/validation/api/items/batch")
+                        .with(request -> {
+                            request.setRemoteAddr("10.47.0.1");
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.toString()))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void CBOR_로_보내면_CBOR_로_받는다() throws Exception {
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        byte[] body = cborMapper.writeValueAsBytes(List.of(
+                Map.of("itemName", "a", "price", 1000, "quantity", 100),
+                Map.of("itemName", " ", "price", 1000, "quantity", 100)));
+
+        byte[] response = mockMvc.perform(post("/validation/api/items/batch")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<Map<String, Object>> results = cborMapper.readValue(response, new TypeReference<List<Map<String, Object>>>() {});
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).containsKey("item");
+        assertThat(results.get(1)).containsKey("errors");
+    }
+
+    @Test
+    void 일괄_등록_응답_형식은_Accept_를_따른다() throws Exception {
+        byte[] body = new ObjectMapper(new CBORFactory()).writeValueAsBytes(List.of(
+                Map.of("itemName", "a", "price", 1000, "quantity", 100)));
+
+        mockMvc.perform(post("/validation/api/items/batch")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].item.itemName").value("a"));
+    }
+
+    @Test
+    void 단건_등록도_Smile_로_주고받는다() throws Exception {
+        MediaType smile = new MediaType("application", "x-jackson-smile");
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+        byte[] response = mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(smile)
+                        .accept(smile)
+                        .content(smileMapper.writeValueAsBytes(Map.of("itemName", "hello", "price", 1000, "quantity", 100))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(smileMapper.readValue(response, Map.class)).containsEntry("itemName", "hello");
+    }
+
+    @Test
+    void 부분_수정은_보낸_필드만_바꾼다() throws Exception {
+        Item item = itemRepository.save(new Item("patch", 10000, 10));
+
+        mockMvc.perform(patch("/validation/api/items/{itemId}", item.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\":20000}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(true))
+                .andExpect(jsonPath("$.item.itemName").value("patch"))
+                .andExpect(jsonPath("$.item.price").value(20000))
+                .andExpect(jsonPath("$.item.quantity").value(10));
+    }
+
+    @Test
+    void 부분_수정_값이_같으면_changed_false() throws Exception {
+        Item item = itemRepository.save(new Item("patch", 10000, 10));
+
+        mockMvc.perform(patch("/validation/api/items/{itemId}", item.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"patch\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(false));
+    }
+
+    @Test
+    void 부분_수정은_저장된_값과_합쳐서_가격_수량_규칙을_검증한다() throws Exception {
+        Item item = itemRepository.save(new Item("patch", 10000, 10));
+
+        // 수량만 보냈지만 저장된 가격 10000 * 0 < 10000
+        mockMvc.perform(patch("/validation/api/items/{itemId}", item.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\":0,\"itemName\":\" \"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].codes[*]", hasItems("NotBlank", "totalPrice")));
+        assertThat(itemRepository.findById(item.getId()).getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    void 부분_수정에서_email_에_null_을_보내면_지운다() throws Exception {
+        Item item = new Item("patch", 10000, 10);
+        item.setEmail("patch@example.com");
+        itemRepository.save(item);
+
+        mockMvc.perform(patch("/validation/api/items/{itemId}", item.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(true));
+        assertThat(itemRepository.findById(item.getId()).getEmail()).isNull();
+    }
+
+    @Test
+    void 부분_수정에서_필수_필드에_null_을_보내면_거절한다() throws Exception {
+        Item item = itemRepository.save(new Item("patch", 10000, 10));
+
+        mockMvc.perform(patch("/validation/api/items/{itemId}", item.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":null,\"price\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].codes[*]", hasItems("NotBlank", "NotNull")));
+        assertThat(itemRepository.findById(item.getId())).isEqualTo(item);
+    }
+
+    @Test
+    void 부분_수정의_타입_오류는_typeMismatch_로_반환() throws Exception {
+        Item item = itemRepository.save(new Item("patch", 10000, 10));
+
+        mockMvc.perform(patch("/validation/api/items/{itemId}", item.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\":\"qqq\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].field").value("price"))
+                .andExpect(jsonPath("$[0].rejectedValue").value("qqq"))
+                .andExpect(jsonPath("$[0].codes[0]").value("typeMismatch.itemPatchForm.price"));
+        assertThat(itemRepository.findById(item.getId()).getPrice()).isEqualTo(10000);
+    }
+
+    @Test
+    void 없는_상품의_부분_수정은_404() throws Exception {
+        mockMvc.perform(patch("/validation/api/items/{itemId}", Long.MAX_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\":20000}"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,57 @@
+package hello.itemservice.web.validation;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ValidationItemNonBlockingApiServletTest {
+
+    static final String URL = "/validation/api/non-blocking/items/add";
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Test
+    void 성공시_폼을_그대로_반환() {
+        ResponseEntity<Map> response = restTemplate.postForEntity(URL, json("{\"itemName\":\"hello\",\"price\":1000,\"quantity\":100}"), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("itemName", "hello").containsEntry("price", 1000);
+    }
+
+    @Test
+    void 오류는_기존_API_와_같은_형식() {
+        ResponseEntity<List> response = restTemplate.postForEntity(URL, json("{\"itemName\":\"hello\",\"price\":\"qqq\",\"quantity\":100}"), List.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(1);
+        Map<?, ?> error = (Map<?, ?>) response.getBody().get(0);
+        assertThat(error.get("field")).isEqualTo("price");
+        assertThat((List<Object>) error.get("codes")).startsWith("typeMismatch.itemSaveForm.price");
+    }
+
+    @Test
+    void 깨진_JSON_은_400() {
+        ResponseEntity<String> response = restTemplate.postForEntity(URL, json("{\"itemName\":"), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private HttpEntity<String> json(String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(body, headers);
+    }
+}
@@ -0,0 +1,189 @@
+package hello.itemservice.web.validation.async;
+
+import hello.itemservice.domain.item.Item;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncValidationStageTest {
+
+    AsyncValidationProperties properties = new AsyncValidationProperties();
+    AsyncValidationStage stage;
+
+    @AfterEach
+    void afterEach() {
+        stage.close();
+    }
+
+    @Test
+    void 규칙_결과를_등록_순서대로_BindingResult_에_넣는다() {
+        stage = new AsyncValidationStage(List.of(
+                rule("first", 0, RuleViolation.field("itemName", "duplicate")),
+                rule("second", 0, RuleViolation.field("email", "blacklisted"))), properties);
+        BindingResult bindingResult = bindingResult();
+
+        stage.validate(item(), bindingResult);
+
+        assertThat(bindingResult.getFieldErrors()).extracting("field", "code")
+                .containsExactly(tuple("itemName", "duplicate"), tuple("email", "blacklisted"));
+    }
+
+    @Test
+    void 느린_규칙들은_동시에_실행된다() {
+        properties.setTimeout(Duration.ofSeconds(5));
+        stage = new AsyncValidationStage(List.of(
+                rule("a", 300), rule("b", 300), rule("c", 300)), properties);
+
+        long start = System.nanoTime();
+        stage.validate(item(), bindingResult());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 순서대로 실행하면 900ms 이상
+        assertThat(elapsedMillis).isLessThan(700);
+    }
+
+    @Test
+    void 이미_오류가_있으면_실행하지_않는다() {
+        stage = new AsyncValidationStage(List.of(rule("a", 0, RuleViolation.field("email", "blacklisted"))), properties);
+        BindingResult bindingResult = bindingResult();
+        bindingResult.rejectValue("itemName", "NotBlank");
+
+        stage.validate(item(), bindingResult);
+
+        assertThat(bindingResult.getErrorCount()).isEqualTo(1);
+        assertThat(stage.stats()).containsEntry("executions", 0L);
+    }
+
+    @Test
+    void 시간_초과시_기본은_통과() {
+        properties.setTimeout(Duration.ofMillis(50));
+        stage = new AsyncValidationStage(List.of(rule("slow", 1000, RuleViolation.field("email", "blacklisted"))), properties);
+        BindingResult bindingResult = bindingResult();
+
+        stage.validate(item(), bindingResult);
+
+        assertThat(bindingResult.hasErrors()).isFalse();
+        assertThat(stage.stats()).containsEntry("timeouts", 1L);
+    }
+
+    @Test
+    void 시간을_넘긴_규칙은_interrupt_해서_스레드를_돌려받는다() throws InterruptedException {
+        properties.setTimeout(Duration.ofMillis(50));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AsyncValidationRule hanging = new AsyncValidationRule() {
+            @Override
+            public String name() {
+                return "hanging";
+            }
+
+            @Override
+            public List<RuleViolation> check(Item item) {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return List.of();
+            }
+        };
+        stage = new AsyncValidationStage(List.of(hanging), properties);
+
+        stage.validate(item(), bindingResult());
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void 규칙이_정한_기본_fallback_이_전체_기본값보다_우선() {
+        properties.setTimeout(Duration.ofMillis(50));
+        AsyncValidationRule slow = rule("slow", 1000);
+        AsyncValidationRule strict = new AsyncValidationRule() {
+            @Override
+            public String name() {
+                return "strict";
+            }
+
+            @Override
+            public List<RuleViolation> check(Item item) {
+                return slow.check(item);
+            }
+
+            @Override
+            public AsyncValidationProperties.Fallback defaultFallback() {
+                return AsyncValidationProperties.Fallback.REJECT;
+            }
+        };
+        stage = new AsyncValidationStage(List.of(strict), properties);
+        BindingResult bindingResult = bindingResult();
+
+        stage.validate(item(), bindingResult);
+
+        assertThat(bindingResult.getGlobalErrors()).extracting("code")
+                .containsExactly(AsyncValidationStage.UNAVAILABLE_CODE);
+    }
+
+    @Test
+    void 시간_초과_실패시_reject_정책이면_오류는_하나만() {
+        AsyncValidationProperties.RuleSettings settings = new AsyncValidationProperties.RuleSettings();
+        settings.setTimeout(Duration.ofMillis(50));
+        settings.setFallback(AsyncValidationProperties.Fallback.REJECT);
+        properties.getRules().put("slow", settings);
+        properties.setFallback(AsyncValidationProperties.Fallback.REJECT);
+        AsyncValidationRule failing = new AsyncValidationRule() {
+            @Override
+            public String name() {
+                return "failing";
+            }
+
+            @Override
+            public List<RuleViolation> check(Item item) {
+                throw new IllegalStateException("lookup failed");
+            }
+        };
+        stage = new AsyncValidationStage(List.of(rule("slow", 1000), failing), properties);
+        BindingResult bindingResult = bindingResult();
+
+        stage.validate(item(), bindingResult);
+
+        assertThat(bindingResult.getGlobalErrors()).extracting("code")
+                .containsExactly(AsyncValidationStage.UNAVAILABLE_CODE);
+        assertThat(stage.stats()).containsEntry("timeouts", 1L).containsEntry("failures", 1L);
+    }
+
+    private AsyncValidationRule rule(String name, long sleepMillis, RuleViolation... violations) {
+        return new AsyncValidationRule() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public List<RuleViolation> check(Item item) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of(violations);
+            }
+        };
+    }
+
+    private Item item() {
+        Item item = new Item("itemA", 10000, 10);
+        item.setEmail("itemA@example.com");
+        return item;
+    }
+
+    private BindingResult bindingResult() {
+        return new BeanPropertyBindingResult(item(), "item");
+    }
+}
@@ -0,0 +1,61 @@
+package hello.itemservice.web.validation.async;
+
+import hello.itemservice.domain.item.Item;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SupplierBlacklistRuleTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void 주소나_도메인이_목록에_있으면_오류() throws Exception {
+        Path file = dir.resolve("blacklist.txt");
+        Files.write(file, List.of("# 거래 제한", "bad-supplier.com", "Someone@Example.com"));
+        SupplierBlacklistRule rule = new SupplierBlacklistRule(file);
+
+        assertThat(rule.check(item("sales@bad-supplier.com"))).extracting("field", "code")
+                .containsExactly(tuple("email", "blacklisted"));
+        assertThat(rule.check(item("someone@example.com"))).hasSize(1);
+        assertThat(rule.check(item("other@example.com"))).isEmpty();
+        assertThat(rule.check(item(null))).isEmpty();
+    }
+
+    @Test
+    void 확인하지_못하면_기본은_거절() {
+        AsyncValidationProperties properties = new AsyncValidationProperties();
+        SupplierBlacklistRule rule = new SupplierBlacklistRule(dir.resolve("blacklist.txt"));
+
+        assertThat(properties.fallbackOf(rule.name(), rule.defaultFallback()))
+                .isEqualTo(AsyncValidationProperties.Fallback.REJECT);
+    }
+
+    @Test
+    void 파일이_없으면_통과하고_바뀌면_다시_읽는다() throws Exception {
+        Path file = dir.resolve("blacklist.txt");
+        SupplierBlacklistRule rule = new SupplierBlacklistRule(file);
+        assertThat(rule.check(item("sales@bad-supplier.com"))).isEmpty();
+
+        Files.write(file, List.of("bad-supplier.com"));
+        assertThat(rule.check(item("sales@bad-supplier.com"))).hasSize(1);
+
+        Files.write(file, List.of("other.com"));
+        // 수정 시각 해상도가 낮은 파일 시스템에서도 바뀐 것으로 보이도록
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+        assertThat(rule.check(item("sales@bad-supplier.com"))).isEmpty();
+    }
+
+    private Item item(String email) {
+        Item item = new Item("itemA", 10000, 10);
+        item.setEmail(email);
+        return item;
+    }
+}
@@ -0,0 +1,72 @@
+package hello.itemservice.web.validation.constraint;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class EmailMatcherTest {
+
+    static final Pattern PATTERN = Pattern.compile(EmailMatcher.REGEX);
+
+    // 정규식의 경계에 걸리는 문자들 ( 구분자, @, 줄바꿈, 서로게이트, 영문 아닌 글자 )
+    static final String[] ALPHABET = {
+            "a", "Z", "0", "-", "_", ".", "@", "!", "é", "가",
+            "\n", "\r", "\u0085", "\u2028", "\uD83D\uDE00", "\uD83D", "\uDE00"
+    };
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "itemA@example.com", "a@b.co", "a.b-c_d@e-f.g.kr", "a@b!com", "a@b가kr", "a@b\uD83D\uDE00com",
+            "a@b.c", "a@b.comm", "a..b@c.com", "a.@b.com", ".a@b.com", "a@b.com\n", "a@b\ncom", "a@@b.com",
+            "a@b@c.com", "@b.com", "a@.com", "a@b", ""
+    })
+    void 정규식과_같은_결과(String email) {
+        assertThat(EmailMatcher.matches(email)).as(email).isEqualTo(PATTERN.matcher(email).matches());
+    }
+
+    @Test
+    void 무작위_입력도_정규식과_같은_결과() {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            sb.setLength(0);
+            if (random.nextBoolean()) {
+                // 통과하는 입력을 한두 글자만 바꿔서 경계 근처를 많이 만든다
+                sb.append("ab.c-d@ef_g.hkr");
+                for (int j = random.nextInt(3); j >= 0; j--) {
+                    sb.insert(random.nextInt(sb.length() + 1), ALPHABET[random.nextInt(ALPHABET.length)]);
+                }
+            } else {
+                for (int j = random.nextInt(16); j > 0; j--) {
+                    sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+                }
+            }
+            String email = sb.toString();
+            assertThat(EmailMatcher.matches(email)).as("%s", email).isEqualTo(PATTERN.matcher(email).matches());
+        }
+    }
+
+    @Test
+    void 긴_입력도_선형_시간에_처리한다() {
+        String longLocal = "a-".repeat(500_000) + "a";
+        String longDomain = "a@" + "b.".repeat(500_000) + "!";
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertThat(EmailMatcher.matches(longLocal)).isFalse();
+            assertThat(EmailMatcher.matches(longDomain)).isFalse();
+            assertThat(EmailMatcher.matches(longLocal + "@example.com")).isTrue();
+        });
+    }
+
+    @Test
+    void null_은_통과하지_않는다() {
+        assertThat(EmailMatcher.matches(null)).isFalse();
+    }
+}
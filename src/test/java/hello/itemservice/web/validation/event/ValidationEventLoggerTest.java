@@ -0,0 +1,107 @@
+package hello.itemservice.web.validation.event;
+
+import hello.itemservice.domain.item.Item;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ValidationEventLoggerTest {
+
+    List<String> lines = new CopyOnWriteArrayList<>();
+    ValidationEventLogger logger;
+
+    @AfterEach
+    void afterEach() {
+        if (logger != null) {
+            logger.close();
+        }
+    }
+
+    @Test
+    void 엔드포인트와_필드_오류코드만_남긴다() {
+        logger = new ValidationEventLogger(new ValidationEventProperties(), lines::add);
+
+        logger.failed("v4.add", errors());
+        logger.close();
+
+        assertThat(lines).containsExactly("endpoint=v4.add object=item errors=[itemName:NotBlank, price:Range, -:totalPrice]");
+        assertThat(logger.stats()).containsEntry("logged", 1L);
+    }
+
+    @Test
+    void 샘플링_비율이_0_이면_남기지_않는다() {
+        ValidationEventProperties properties = new ValidationEventProperties();
+        properties.setSampleRate(0.0);
+        logger = new ValidationEventLogger(properties, lines::add);
+
+        for (int i = 0; i < 100; i++) {
+            logger.failed("v4.add", errors());
+        }
+        logger.close();
+
+        assertThat(lines).isEmpty();
+        assertThat(logger.stats()).containsEntry("sampledOut", 100L);
+    }
+
+    @Test
+    void 초당_한도를_넘으면_버린다() {
+        ValidationEventProperties properties = new ValidationEventProperties();
+        properties.setMaxPerSecond(1);
+        properties.setBurst(5);
+        logger = new ValidationEventLogger(properties, lines::add);
+
+        for (int i = 0; i < 100; i++) {
+            logger.failed("v4.add", errors());
+        }
+        logger.close();
+
+        // 테스트가 도는 동안 토큰이 하나 정도 더 채워질 수 있다
+        assertThat(lines.size()).isBetween(5, 6);
+        assertThat((Long) logger.stats().get("rateLimited")).isEqualTo(100L - lines.size());
+    }
+
+    @Test
+    void 기록이_밀리면_큐_용량을_넘는_이벤트는_버린다() throws Exception {
+        ValidationEventProperties properties = new ValidationEventProperties();
+        properties.setQueueCapacity(2);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        logger = new ValidationEventLogger(properties, line -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            lines.add(line);
+        });
+
+        // 첫 이벤트를 기록 스레드가 꺼내서 붙잡고 있는 동안 큐에는 2개까지만 들어간다
+        logger.failed("v4.add", errors());
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 3; i++) {
+            logger.failed("v4.add", errors());
+        }
+        release.countDown();
+        logger.close();
+
+        assertThat(lines).hasSize(3);
+        assertThat(logger.stats()).containsEntry("queueFull", 1L);
+    }
+
+    private BindingResult errors() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(new Item(), "item");
+        bindingResult.rejectValue("itemName", "NotBlank");
+        bindingResult.rejectValue("price", "Range");
+        bindingResult.reject("totalPrice");
+        return bindingResult;
+    }
+}
@@ -0,0 +1,103 @@
+package hello.itemservice.web.validation.form;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemSaveFormReaderTest {
+
+    ItemSaveFormReader reader = new ItemSaveFormReader(new JsonFactory());
+
+    @Test
+    void 정상_입력() throws IOException {
+        ItemSaveFormReader.Result result = read("{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":\"10\",\"email\":\"a@b.com\",\"unknown\":{\"x\":[1,2]}}");
+
+        assertThat(result.hasTypeMismatches()).isFalse();
+        ItemSaveForm form = result.getForm();
+        assertThat(form.getItemName()).isEqualTo("itemA");
+        assertThat(form.getPrice()).isEqualTo(10000);
+        assertThat(form.getQuantity()).isEqualTo(10);
+        assertThat(form.getEmail()).isEqualTo("a@b.com");
+    }
+
+    @Test
+    void 보낸_필드를_null_포함해서_기록한다() throws IOException {
+        ItemSaveFormReader.Result result = read("{\"price\":null,\"email\":null,\"quantity\":\"qqq\"}");
+
+        assertThat(result.isPresent(ItemSaveFormReader.PRICE)).isTrue();
+        assertThat(result.isPresent(ItemSaveFormReader.EMAIL)).isTrue();
+        // 보내지 않은 필드, 타입 오류인 필드는 기록하지 않는다
+        assertThat(result.isPresent(ItemSaveFormReader.ITEM_NAME)).isFalse();
+        assertThat(result.isPresent(ItemSaveFormReader.QUANTITY)).isFalse();
+    }
+
+    @Test
+    void 타입_오류는_예외없이_모아서_반환() throws IOException {
+        ItemSaveFormReader.Result result = read("{\"itemName\":[\"a\"],\"price\":\"qqq\",\"quantity\":99999999999,\"email\":null}");
+
+        assertThat(result.getTypeMismatches())
+                .extracting(e -> e.getPropertyName(), e -> e.getValue())
+                .containsExactly(
+                        tuple("itemName", null),
+                        tuple("price", "qqq"),
+                        tuple("quantity", "99999999999"));
+        assertThat(result.getForm().getPrice()).isNull();
+        assertThat(result.getForm().getEmail()).isNull();
+    }
+
+    @Test
+    void 객체가_아니면_파싱_오류() {
+        assertThatThrownBy(() -> read("[1,2]")).isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> read("{\"price\":1")).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void 배열은_원소별로_타입_오류를_모은다() throws IOException {
+        List<ItemSaveFormReader.Result> results = reader.readAll(in("[{\"itemName\":\"a\",\"price\":1000},{\"price\":\"qqq\"}]"), 10);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).hasTypeMismatches()).isFalse();
+        assertThat(results.get(0).getForm().getItemName()).isEqualTo("a");
+        assertThat(results.get(1).getTypeMismatches()).extracting(e -> e.getPropertyName()).containsExactly("price");
+    }
+
+    @Test
+    void 배열_최대_개수를_넘으면_파싱_오류() {
+        assertThatThrownBy(() -> reader.readAll(in("[{},{},{}]"), 2)).isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> reader.readAll(in("[{}, 1]"), 10)).isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> reader.readAll(in("{}"), 10)).isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    void CBOR_도_같은_리더로_읽는다() throws IOException {
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        byte[] body = cborMapper.writeValueAsBytes(List.of(
+                Map.of("itemName", "itemA", "price", 10000, "quantity", 10),
+                Map.of("itemName", "itemB", "price", "qqq")));
+
+        List<ItemSaveFormReader.Result> results = new ItemSaveFormReader(new CBORFactory())
+                .readAll(new ByteArrayInputStream(body), 10);
+
+        assertThat(results.get(0).getForm().getPrice()).isEqualTo(10000);
+        assertThat(results.get(0).getForm().getQuantity()).isEqualTo(10);
+        assertThat(results.get(1).getTypeMismatches()).extracting(e -> e.getValue()).containsExactly("qqq");
+    }
+
+    private ItemSaveFormReader.Result read(String json) throws IOException {
+        return reader.read(in(json));
+    }
+
+    private ByteArrayInputStream in(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}